@@ -0,0 +1,51 @@
+#!/bin/sh
+# Mide el coste de las vistas de Faces: tiempo de render de index.xhtml y heap por sesión.
+#
+# Ejecútalo una vez con cada perfil (misma máquina, misma base de datos) y compara:
+#   MP_CONFIG_PROFILE=dev  -> ./bench/faces-profile.sh
+#   MP_CONFIG_PROFILE=prod -> ./bench/faces-profile.sh
+#
+# Para que la medida del heap no dependa de cuándo pase el GC, indica dónde corre la JVM:
+#   CONTAINER=project-tracker ./bench/faces-profile.sh   (docker exec ... jcmd 1 GC.run)
+#   JAVA_PID=12345 ./bench/faces-profile.sh              (jcmd 12345 GC.run)
+# Sin ninguno de los dos, el dato de heap es orientativo.
+set -eu
+
+BASE_URL="${BASE_URL:-http://localhost:8081}"
+SESSIONS="${SESSIONS:-500}"
+RENDERS="${RENDERS:-500}"
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+full_gc() {
+    if [ -n "${CONTAINER:-}" ]; then
+        docker exec "$CONTAINER" jcmd 1 GC.run > /dev/null
+    elif [ -n "${JAVA_PID:-}" ]; then
+        jcmd "$JAVA_PID" GC.run > /dev/null
+    fi
+    sleep 1
+}
+
+used_heap() {
+    curl -sf "$BASE_URL/metrics?scope=base" | grep -E '^memory_usedHeap_bytes' | awk '{print int($2)}'
+}
+
+# 1. Render: la misma sesión pide la página RENDERS veces (tras 50 de calentamiento)
+seq 1 50 | while read -r _; do
+    curl -sf -o /dev/null -b "$WORK/render" -c "$WORK/render" "$BASE_URL/index.xhtml"
+done
+TOTAL_S=$(seq 1 "$RENDERS" | while read -r _; do
+    curl -sf -o /dev/null -w '%{time_total}\n' -b "$WORK/render" -c "$WORK/render" "$BASE_URL/index.xhtml"
+done | awk '{sum += $1} END {printf "%.6f", sum}')
+echo "Render de index.xhtml: $(echo "$TOTAL_S $RENDERS" | awk '{printf "%.2f", $1 * 1000 / $2}') ms de media ($RENDERS peticiones)"
+
+# 2. Heap: SESSIONS sesiones nuevas, cada una con su vista guardada
+full_gc
+BEFORE=$(used_heap)
+for i in $(seq 1 "$SESSIONS"); do
+    curl -sf -o /dev/null -c "$WORK/session-$i" "$BASE_URL/index.xhtml"
+done
+full_gc
+AFTER=$(used_heap)
+echo "Heap: $BEFORE -> $AFTER bytes con $SESSIONS sesiones nuevas"
+echo "heap/sesión: $(( (AFTER - BEFORE) / SESSIONS )) bytes"
@@ -0,0 +1,64 @@
+#!/bin/sh
+# Mide inserciones por segundo en la ruta de importación por lotes
+# (POST /resources/projects/import -> job 'taskImportJob': TaskReader -> TaskProcessor -> TaskWriter).
+#
+# Crea PROJECTS proyectos nuevos y reparte entre ellos TOTAL tareas sintéticas, para no medir
+# un único proyecto cada vez más grande. Cada chunk (CHUNK tareas) es una transacción.
+#
+# Uso (con la aplicación arrancada):
+#   ./bench/insert-benchmark.sh                       # 20000 tareas en 50 proyectos, chunks de 100
+#   BASE_URL=http://localhost:8082 TOTAL=100000 PROJECTS=200 CHUNK=500 ./bench/insert-benchmark.sh
+#
+# Para comparar IDENTITY vs SEQUENCE, ejecútalo con cada versión de la aplicación
+# sobre la misma base de datos y compara la línea final "inserts/s".
+set -eu
+
+BASE_URL="${BASE_URL:-http://localhost:8081}"
+TOTAL="${TOTAL:-20000}"
+PROJECTS="${PROJECTS:-50}"
+CHUNK="${CHUNK:-100}"
+
+# 1. Token JWT de administrador
+TOKEN=$(curl -sf -X POST "$BASE_URL/resources/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d '{"username":"admin","password":"admin123"}' | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+# 2. Proyectos de destino (sus ids, separados por comas)
+RUN=$(date +%s)
+PROJECT_IDS=""
+for i in $(seq 1 "$PROJECTS"); do
+    ID=$(curl -sf -X POST "$BASE_URL/resources/projects" \
+        -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+        -d "{\"name\":\"Benchmark $RUN-$i\",\"status\":\"Activo\"}" | sed -E 's/.*"id":([0-9]+).*/\1/')
+    PROJECT_IDS="${PROJECT_IDS:+$PROJECT_IDS,}$ID"
+done
+
+# Lanza el job y espera a que termine; imprime "estado inicio fin" (epoch ms)
+run_import() {
+    EXECUTION_ID=$(curl -sf -X POST \
+        "$BASE_URL/resources/projects/import?syntheticRows=$1&projectIds=$PROJECT_IDS&chunkSize=$CHUNK" \
+        -H "Authorization: Bearer $TOKEN" | sed -E 's/.*: ([0-9]+).*/\1/')
+    while :; do
+        STATE=$(curl -sf "$BASE_URL/resources/projects/import/$EXECUTION_ID" -H "Authorization: Bearer $TOKEN")
+        STATUS=$(echo "$STATE" | sed -E 's/.*"status":"([A-Z]+)".*/\1/')
+        case "$STATUS" in
+            COMPLETED|FAILED|STOPPED|ABANDONED) break ;;
+        esac
+        sleep 0.5
+    done
+    echo "$STATUS $(echo "$STATE" | sed -E 's/.*"startTime":([0-9]+).*/\1/') $(echo "$STATE" | sed -E 's/.*"endTime":([0-9]+).*/\1/')"
+}
+
+# 3. Calentamiento (no cuenta para el resultado)
+run_import "$(( PROJECTS * 10 ))" > /dev/null
+
+# 4. Medición: se usan los tiempos del propio job, sin el sondeo HTTP
+set -- $(run_import "$TOTAL")
+if [ "$1" != "COMPLETED" ]; then
+    echo "La importación terminó en estado $1" >&2
+    exit 1
+fi
+
+ELAPSED_MS=$(( $3 - $2 ))
+echo "Tareas importadas: $TOTAL en ${ELAPSED_MS} ms ($PROJECTS proyectos, chunks de $CHUNK)"
+echo "inserts/s: $(( TOTAL * 1000 / (ELAPSED_MS > 0 ? ELAPSED_MS : 1) ))"
@@ -0,0 +1,94 @@
+#!/bin/sh
+# Mide el tiempo de arranque de la imagen de Dockerfile.micro: desde 'docker run'
+# hasta que /health/ready responde 200. Compara con y sin el archivo CDS
+# (sin CDS = mismo comando java que el ENTRYPOINT, con -Xshare:off y sin -XX:SharedArchiveFile).
+#
+# Levanta su propio PostgreSQL desechable en una red aparte (no toca la base de datos del curso).
+#
+# Uso:
+#   docker build -t project-tracker-micro -f Dockerfile.micro .
+#   ./bench/startup-time.sh                        # 5 arranques de cada modo
+#   RUNS=10 IMAGE=mi-imagen ./bench/startup-time.sh
+set -eu
+
+IMAGE="${IMAGE:-project-tracker-micro}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8090}"
+TIMEOUT_S="${TIMEOUT_S:-180}"
+NETWORK=pt-startup-bench
+DB=pt-startup-db
+APP=pt-startup-app
+
+cleanup() {
+    docker rm -f "$APP" "$DB" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+# 1. PostgreSQL de usar y tirar
+docker network create "$NETWORK" >/dev/null
+docker run -d --rm --name "$DB" --net "$NETWORK" \
+    -e POSTGRES_DB=PROJECT_TRACKER -e POSTGRES_USER=PROJECT_TRACKER -e POSTGRES_PASSWORD=PROJECT_TRACKER \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB" pg_isready -U PROJECT_TRACKER >/dev/null 2>&1; do sleep 1; done
+
+# Sin CDS no basta con JAVA_TOOL_OPTIONS=-Xshare:off: la JVM lee esa variable antes que la
+# línea de comandos, y el -XX:SharedArchiveFile/-Xshare:auto del ENTRYPOINT ganaría.
+# Sustituimos el ENTRYPOINT por el mismo comando java sin las opciones de CDS.
+NO_CDS_ENTRYPOINT="java"
+NO_CDS_ARGS="-XX:+UseContainerSupport -XX:MaxRAMPercentage=70 -Xshare:off
+    -jar /opt/payara/micro-root/launch-micro.jar
+    --deploymentDir /opt/payara/deployments --postbootcommandfile /opt/payara/post-boot.asadmin
+    --addLibs /opt/payara/libs/postgresql.jar --contextroot /"
+
+# 2. Un arranque: imprime los milisegundos hasta "ready"
+#    $1 = "cds" (ENTRYPOINT de la imagen) o "nocds"
+measure() {
+    mode="$1"
+    start=$(date +%s%N)
+    if [ "$mode" = "nocds" ]; then
+        # shellcheck disable=SC2086  # NO_CDS_ARGS se separa en palabras a propósito
+        docker run -d --rm --name "$APP" --net "$NETWORK" -p "$PORT:8080" \
+            -e DB_URL="jdbc\:postgresql\://$DB/PROJECT_TRACKER" \
+            -e DB_USER=PROJECT_TRACKER -e DB_PASSWORD=PROJECT_TRACKER \
+            --entrypoint "$NO_CDS_ENTRYPOINT" \
+            "$IMAGE" $NO_CDS_ARGS >/dev/null
+    else
+        docker run -d --rm --name "$APP" --net "$NETWORK" -p "$PORT:8080" \
+            -e DB_URL="jdbc\:postgresql\://$DB/PROJECT_TRACKER" \
+            -e DB_USER=PROJECT_TRACKER -e DB_PASSWORD=PROJECT_TRACKER \
+            "$IMAGE" >/dev/null
+    fi
+    deadline=$(( $(date +%s) + TIMEOUT_S ))
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/health/ready")" = "200" ]; do
+        if [ "$(date +%s)" -gt "$deadline" ]; then
+            echo "timeout" >&2
+            docker logs "$APP" | tail -50 >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+    end=$(date +%s%N)
+    docker rm -f "$APP" >/dev/null
+    echo $(( (end - start) / 1000000 ))
+}
+
+# 3. N arranques por modo: mínimo y media
+run_mode() {
+    label="$1"
+    mode="$2"
+    total=0
+    min=0
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        ms=$(measure "$mode")
+        echo "  $label #$i: ${ms} ms"
+        total=$(( total + ms ))
+        if [ "$min" -eq 0 ] || [ "$ms" -lt "$min" ]; then min=$ms; fi
+        i=$(( i + 1 ))
+    done
+    echo "$label: media $(( total / RUNS )) ms, mínimo ${min} ms"
+}
+
+run_mode "sin CDS" nocds
+run_mode "con CDS" cds
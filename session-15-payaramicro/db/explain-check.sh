@@ -0,0 +1,19 @@
+#!/bin/sh
+# Ejecuta db/explain-check.sql y falla si alguna consulta "caliente" hace un Seq Scan.
+#
+# Por defecto usa el contenedor de docker/database (project_tracker_db).
+# Para otra base de datos:  PSQL="psql -h localhost -U PROJECT_TRACKER PROJECT_TRACKER" ./db/explain-check.sh
+set -eu
+
+PSQL="${PSQL:-docker exec -i project_tracker_db psql -U PROJECT_TRACKER -d PROJECT_TRACKER}"
+SCRIPT_DIR=$(dirname "$0")
+
+PLAN=$($PSQL -X -q < "$SCRIPT_DIR/explain-check.sql")
+echo "$PLAN"
+
+if echo "$PLAN" | grep -Eiq 'Seq Scan on (task|project)\b'; then
+    echo "ERROR: una consulta caliente está haciendo un recorrido completo (Seq Scan)." >&2
+    exit 1
+fi
+
+echo "OK: todas las consultas usan índices."
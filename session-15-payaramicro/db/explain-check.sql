@@ -0,0 +1,63 @@
+-- ---------------------------------------------------------------------------
+-- Chequeo de planes de ejecución (EXPLAIN) para las consultas más usadas.
+--
+-- Requisitos: la aplicación ya desplegó una vez contra esta base de datos
+-- (EclipseLink creó las tablas y los índices de @Table(indexes = ...)).
+--
+-- Todo corre dentro de una transacción que termina en ROLLBACK:
+-- los datos sembrados y las estadísticas de ANALYZE no se quedan en la BBDD.
+-- ---------------------------------------------------------------------------
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+-- 1. Los índices declarados en las entidades deben existir
+DO $$
+DECLARE
+    idx TEXT;
+BEGIN
+    FOREACH idx IN ARRAY ARRAY['idx_task_status_createdat', 'idx_task_project_id', 'idx_project_status'] LOOP
+        IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = idx) THEN
+            RAISE EXCEPTION 'Falta el índice %', idx;
+        END IF;
+    END LOOP;
+END $$;
+
+-- 2. Datos de prueba realistas: 20.000 proyectos (pocos activos) y 200.000 tareas
+--    (IDs altos y explícitos para no chocar con los datos de la aplicación)
+INSERT INTO PROJECT (ID, VERSION, NAME, DESCRIPTION, STATUS, CREATEDBY, CREATEDAT)
+SELECT 1000000 + g,
+       1,
+       'Proyecto ' || g,
+       'Proyecto sembrado para EXPLAIN',
+       CASE WHEN g % 100 = 0 THEN 'Activo' ELSE 'Cerrado' END,
+       'explain_check',
+       DATE '2024-01-01' + (g % 365)
+FROM generate_series(1, 20000) AS g;
+
+INSERT INTO TASK (ID, VERSION, TITLE, STATUS, PROJECT_ID, CREATEDBY, CREATEDAT)
+SELECT 1000000 + g,
+       1,
+       'Tarea ' || g,
+       (ARRAY['Pendiente', 'En Progreso', 'Completada', 'Archivada'])[1 + g % 4],
+       1000000 + 1 + g % 20000,
+       'explain_check',
+       DATE '2020-01-01' + (g % 2000)
+FROM generate_series(1, 200000) AS g;
+
+ANALYZE PROJECT;
+ANALYZE TASK;
+
+-- 3. Planes de las consultas "calientes".
+--    explain-check.sh falla si alguno contiene "Seq Scan on task" o "Seq Scan on project".
+
+-- TaskRepository.findOldTasks (TaskCleanupService)
+EXPLAIN SELECT * FROM TASK WHERE STATUS = 'Completada' AND CREATEDAT < DATE '2020-03-01';
+
+-- ProjectRepository.findByStatus
+EXPLAIN SELECT * FROM PROJECT WHERE STATUS = 'Activo';
+
+-- Tareas de un proyecto (carga de la relación, exportación CSV/NDJSON)
+EXPLAIN SELECT * FROM TASK WHERE PROJECT_ID = 1000042;
+
+ROLLBACK;
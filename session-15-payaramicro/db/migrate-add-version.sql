@@ -0,0 +1,15 @@
+-- ---------------------------------------------------------------------------
+-- Migración: columna VERSION (@Version, bloqueo optimista) en PROJECT y TASK.
+--
+-- Para bases de datos existentes que NO se recrean con drop-and-create:
+--   docker exec -i project_tracker_db psql -U PROJECT_TRACKER -d PROJECT_TRACKER < db/migrate-add-version.sql
+-- ---------------------------------------------------------------------------
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+-- Las filas existentes empiezan en la versión 1 (EclipseLink no admite versiones nulas)
+ALTER TABLE PROJECT ADD COLUMN IF NOT EXISTS VERSION BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE TASK ADD COLUMN IF NOT EXISTS VERSION BIGINT NOT NULL DEFAULT 1;
+
+COMMIT;
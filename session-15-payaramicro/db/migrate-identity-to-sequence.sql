@@ -0,0 +1,32 @@
+-- ---------------------------------------------------------------------------
+-- Migración: IDs de PROJECT y TASK de IDENTITY/SERIAL a secuencias "pooled".
+--
+-- Para bases de datos existentes que NO se recrean con drop-and-create.
+-- Ejecutar una sola vez, con la aplicación detenida:
+--   docker exec -i project_tracker_db psql -U PROJECT_TRACKER -d PROJECT_TRACKER < db/migrate-identity-to-sequence.sql
+--
+-- El incremento (50) debe coincidir con allocationSize de @SequenceGenerator.
+-- ---------------------------------------------------------------------------
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+-- 1. Nuevas secuencias
+CREATE SEQUENCE IF NOT EXISTS PROJECT_SEQ INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS TASK_SEQ INCREMENT BY 50;
+
+-- 2. Continuar por encima de los IDs existentes (con un bloque completo de margen)
+SELECT setval('PROJECT_SEQ', COALESCE((SELECT MAX(ID) FROM PROJECT), 0) + 50);
+SELECT setval('TASK_SEQ', COALESCE((SELECT MAX(ID) FROM TASK), 0) + 50);
+
+-- 3. Quitar la generación en la base de datos (columna IDENTITY o SERIAL)
+ALTER TABLE PROJECT ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE PROJECT ALTER COLUMN ID DROP DEFAULT;
+ALTER TABLE TASK ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE TASK ALTER COLUMN ID DROP DEFAULT;
+
+-- 4. Las secuencias implícitas de SERIAL ya no se usan
+DROP SEQUENCE IF EXISTS project_id_seq;
+DROP SEQUENCE IF EXISTS task_id_seq;
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- ---------------------------------------------------------------------------
+-- Índices GIN para la búsqueda con search.backend=postgres (ProjectSearchService).
+--
+-- Las expresiones deben ser idénticas a las de la consulta para que PostgreSQL
+-- pueda usar el índice. Sirven de prefiltro (algún término en el proyecto o en una tarea);
+-- la comprobación final de todos los términos se hace sobre el texto agregado del proyecto.
+-- Ejecutar una vez:
+--   docker exec -i project_tracker_db psql -U PROJECT_TRACKER -d PROJECT_TRACKER < db/search-tsvector.sql
+-- ---------------------------------------------------------------------------
+CREATE INDEX IF NOT EXISTS IDX_PROJECT_FTS
+    ON PROJECT USING GIN (to_tsvector('spanish', NAME || ' ' || COALESCE(DESCRIPTION, '')));
+
+CREATE INDEX IF NOT EXISTS IDX_TASK_TITLE_FTS
+    ON TASK USING GIN (to_tsvector('spanish', TITLE));
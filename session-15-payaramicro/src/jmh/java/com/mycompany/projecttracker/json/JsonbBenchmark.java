@@ -0,0 +1,81 @@
+package com.mycompany.projecttracker.json;
+
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JSON-B por defecto (reflexión) frente a los serializadores de DtoSerializers,
+ * con los mismos objetos que envían GET /projects/{id} y GET /projects.
+ *
+ * Ejecutar: ./mvnw -Pjmh test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonbBenchmark {
+
+    private Jsonb reflective;
+    private Jsonb handWritten;
+
+    private ProjectDTO project;
+    private List<ProjectSummary> page;
+
+    @Setup
+    public void setUp() {
+        reflective = JsonbBuilder.create();
+        handWritten = JsonbBuilder.create(new JsonbConfig().withSerializers(DtoSerializers.all()));
+        project = new ProjectDTO(42L, "Migración a Jakarta EE 11",
+            "Actualizar dependencias, revisar APIs eliminadas y probar en Payara 7", "Activo", 3L);
+        // Listado de 100 resúmenes, como GET /projects
+        page = LongStream.rangeClosed(1, 100)
+            .mapToObj(id -> new ProjectSummary(id, "Proyecto " + id, id % 3 == 0 ? "Cerrado" : "Activo"))
+            .toList();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        reflective.close();
+        handWritten.close();
+    }
+
+    @Benchmark
+    public String projectReflective() {
+        return reflective.toJson(project);
+    }
+
+    @Benchmark
+    public String projectHandWritten() {
+        return handWritten.toJson(project);
+    }
+
+    @Benchmark
+    public String listReflective() {
+        return reflective.toJson(page);
+    }
+
+    @Benchmark
+    public String listHandWritten() {
+        return handWritten.toJson(page);
+    }
+}
@@ -8,8 +8,11 @@ import jakarta.batch.api.chunk.ItemProcessor;
 import jakarta.enterprise.context.Dependent;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 @Named
@@ -19,6 +22,12 @@ public class TaskProcessor implements ItemProcessor {
     @Inject
     private ProjectRepository projectRepository;
 
+    @PersistenceContext
+    private EntityManager em;
+
+    // Proyectos ya comprobados en este step: una consulta por proyecto, no por línea
+    private final Map<Long, Boolean> projectExists = new HashMap<>();
+
     private static final Logger LOGGER = Logger.getLogger(TaskProcessor.class.getName());
 
     @Override
@@ -30,10 +39,12 @@ public class TaskProcessor implements ItemProcessor {
         String status = parts[1];
         Long projectId = Long.parseLong(parts[2]);
 
-        // Validar que el proyecto exista
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
+        // Validar que el proyecto exista. Solo se lee su nombre: findById cargaría
+        // también todas sus tareas (EAGER), cada vez más a medida que importamos.
+        boolean exists = projectExists.computeIfAbsent(projectId,
+            id -> projectRepository.findNameById(id).isPresent());
 
-        if (projectOpt.isEmpty()) {
+        if (!exists) {
             LOGGER.info("--> Batch Error: Proyecto ID " + projectId + " no encontrado. Saltando línea.");
             return null; // Al retornar null, este ítem se descarta y no pasa al Writer
         }
@@ -41,7 +52,8 @@ public class TaskProcessor implements ItemProcessor {
         Task task = new Task();
         task.setTitle(title);
         task.setStatus(status);
-        task.setProject(projectOpt.get());
+        // Referencia sin cargar: para el INSERT basta con la clave foránea
+        task.setProject(em.getReference(Project.class, projectId));
         task.setAuditInfo(new AuditInfo("batch_import", LocalDate.now()));
 
         return task; // Retornamos la entidad lista para guardar
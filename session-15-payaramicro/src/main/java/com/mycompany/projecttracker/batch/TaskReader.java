@@ -1,18 +1,42 @@
 package com.mycompany.projecttracker.batch;
 
+import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.AbstractItemReader;
 import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import java.util.Arrays;
+
 @Named
 @Dependent
 public class TaskReader extends AbstractItemReader {
 
+    // Filas sintéticas (para bench/insert-benchmark.sh): 0 = usar el CSV de ejemplo
+    @Inject
+    @BatchProperty(name = "syntheticRows")
+    private String syntheticRows;
+
+    // Proyectos entre los que se reparten las filas sintéticas (ej. "1,2,3")
+    @Inject
+    @BatchProperty(name = "projectIds")
+    private String projectIds;
+
     private String[] rawCsvData;
-    private int index;
+    private long[] syntheticProjects;
+    private long syntheticTotal;
+    private long index;
 
     @Override
     public void open(java.io.Serializable checkpoint) throws Exception {
+        syntheticTotal = syntheticRows == null || syntheticRows.isBlank() ? 0 : Long.parseLong(syntheticRows.trim());
+        if (syntheticTotal > 0) {
+            syntheticProjects = Arrays.stream(projectIds.split(","))
+                .map(String::trim)
+                .mapToLong(Long::parseLong)
+                .toArray();
+        }
+
         // Simulamos un archivo CSV cargado
         rawCsvData = new String[]{
             "Importar Datos,Pendiente,1",
@@ -25,10 +49,18 @@ public class TaskReader extends AbstractItemReader {
 
     @Override
     public Object readItem() throws Exception {
+        if (syntheticTotal > 0) {
+            if (index < syntheticTotal) {
+                // Reparto round-robin: ningún proyecto acumula todas las tareas
+                long projectId = syntheticProjects[(int) (index % syntheticProjects.length)];
+                return "Importada " + (index++) + ",Pendiente," + projectId;
+            }
+            return null;
+        }
         if (index < rawCsvData.length) {
             // Retornamos la línea cruda
-            return rawCsvData[index++];
+            return rawCsvData[(int) index++];
         }
         return null; // Null indica fin del archivo
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,17 @@ package com.mycompany.projecttracker.batch;
 
 
 import com.mycompany.projecttracker.entity.Task;
+import com.mycompany.projecttracker.event.TaskCreatedEvent;
+import com.mycompany.projecttracker.model.TaskDTO;
+import com.mycompany.projecttracker.service.stats.ProjectTaskStatsService;
 import jakarta.batch.api.chunk.AbstractItemWriter;
 import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -19,13 +25,30 @@ public class TaskWriter extends AbstractItemWriter {
     @PersistenceContext
     private EntityManager em;
 
+    @Inject
+    private ProjectTaskStatsService statsService;
+
+    @Inject
+    private Event<TaskCreatedEvent> taskEvent;
+
     @Override
     public void writeItems(List<Object> items) throws Exception {
         LOGGER.info("--> Batch Writer: Guardando chunk de " + items.size() + " tareas.");
 
+        List<Task> tasks = new ArrayList<>(items.size());
         for (Object obj : items) {
             Task task = (Task) obj;
             em.persist(task);
+            tasks.add(task);
+        }
+
+        // Un upsert por (proyecto, estado) del chunk, dentro de la misma transacción
+        statsService.tasksCreated(tasks);
+
+        // Los observadores transaccionales (ej. el índice de búsqueda) actúan tras el commit del chunk
+        for (Task task : tasks) {
+            taskEvent.fire(new TaskCreatedEvent(task.getProject().getId(),
+                new TaskDTO(task.getId(), task.getTitle(), task.getStatus())));
         }
         // Nota: No hace falta em.flush() ni commit.
         // El contenedor de Batch maneja la transacción JTA por cada chunk.
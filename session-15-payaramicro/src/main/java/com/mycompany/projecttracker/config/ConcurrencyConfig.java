@@ -2,7 +2,9 @@ package com.mycompany.projecttracker.config;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.concurrent.ManagedExecutorDefinition;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorDefinition;
 import jakarta.enterprise.concurrent.ContextServiceDefinition;
+import jakarta.enterprise.concurrent.ManagedThreadFactoryDefinition;
 
 /**
  * Definición de recursos de Concurrencia.
@@ -13,8 +15,25 @@ import jakarta.enterprise.concurrent.ContextServiceDefinition;
     name = "java:app/concurrent/VirtualExecutor", // El nombre JNDI para inyectarlo luego
     virtual = true, // <--- ¡LA NOVEDAD DE EE 11! Habilita Virtual Threads
     maxAsync = 10,  // Cuántas tareas pueden correr simultáneamente (opcional)
+                    // Ojo: la cola detrás de maxAsync no tiene límite. Para reportes,
+                    // ReportAdmissionController acota la cola y aplica prioridades.
     context = "java:app/concurrent/MyContext" // Propagación de contexto (seguridad, etc.)
 )
+// Fábrica de hilos virtuales para tareas de larga duración que no deben ocupar
+// un hueco de 'maxAsync' (ej. un hilo emisor por cada cliente SSE, ver ProjectEventStream)
+@ManagedThreadFactoryDefinition(
+    name = "java:app/concurrent/VirtualThreadFactory",
+    virtual = true,
+    context = "java:app/concurrent/MyContext"
+)
+// Tareas periódicas internas (muestreo de la base de datos y de Batch, ver DatabaseStateSampler
+// y BatchStateSampler). Un hueco por muestreador: si uno se bloquea, el otro sigue.
+@ManagedScheduledExecutorDefinition(
+    name = "java:app/concurrent/HealthScheduler",
+    virtual = true,
+    maxAsync = 2,
+    context = "java:app/concurrent/MyContext"
+)
 @ContextServiceDefinition(
     name = "java:app/concurrent/MyContext",
     propagated = {ContextServiceDefinition.SECURITY, ContextServiceDefinition.APPLICATION}
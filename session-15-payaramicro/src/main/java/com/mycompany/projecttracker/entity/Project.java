@@ -3,6 +3,10 @@ package com.mycompany.projecttracker.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.eclipse.persistence.annotations.Cache;
+import org.eclipse.persistence.annotations.CacheCoordinationType;
+import org.eclipse.persistence.annotations.CacheType;
+import org.eclipse.persistence.config.QueryHints;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -11,13 +15,50 @@ import java.util.List;
 /**
  * Entidad JPA que representa la tabla 'Project' en la base de datos.
  * Especificación: Jakarta Persistence 3.2.
+ *
+ * Caché compartida (L2) de EclipseLink:
+ * - SOFT: los proyectos se quedan en memoria mientras el GC no la necesite.
+ *   El tamaño se configura por perfil ('eclipselink.cache.size.Project' en persistence.xml).
+ * - expiry: a los 10 minutos se vuelven a leer de la BBDD (por si alguien escribe por fuera).
+ * - INVALIDATE_CHANGED_OBJECTS: en un cluster, cuando un nodo modifica un proyecto,
+ *   los demás lo invalidan (ver 'eclipselink.cache.coordination.protocol' en persistence.xml).
  */
+@Cache(
+    type = CacheType.SOFT,
+    expiry = 600_000,
+    coordinationType = CacheCoordinationType.INVALIDATE_CHANGED_OBJECTS
+)
+@NamedQuery(
+    name = Project.FIND_BY_STATUS,
+    // Proyección (ver ProjectSummary): no se crean entidades ni se lee la descripción
+    query = "SELECT NEW com.mycompany.projecttracker.model.ProjectSummary(p.id, p.name, p.status) " +
+            "FROM Project p WHERE p.status = :status ORDER BY p.id",
+    hints = {
+        // Caché de resultados: la misma consulta con el mismo estado no vuelve a la BBDD.
+        // EclipseLink la invalida cuando cambia cualquier Project, y además caduca al minuto.
+        @QueryHint(name = QueryHints.QUERY_RESULTS_CACHE, value = "true"),
+        @QueryHint(name = QueryHints.QUERY_RESULTS_CACHE_SIZE, value = "20"),
+        @QueryHint(name = QueryHints.QUERY_RESULTS_CACHE_EXPIRY, value = "60000")
+    }
+)
 @Entity
-@Table(name = "PROJECT")
+@Table(name = "PROJECT", indexes = {
+    // ProjectRepository.findByStatus
+    @Index(name = "IDX_PROJECT_STATUS", columnList = "STATUS")
+})
 public class Project {
 
+    public static final String FIND_BY_STATUS = "Project.findByStatus";
+
+    /**
+     * IDs desde una secuencia "pooled": EclipseLink reserva 50 valores por cada
+     * llamada a la secuencia y asigna el ID en el persist(), sin esperar al INSERT.
+     * Con IDENTITY, cada INSERT tenía que ejecutarse solo para leer la clave generada,
+     * lo que impedía agruparlos (batch writing).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "PROJECT_SEQ", allocationSize = 50)
     private Long id;
 
     @NotNull // JPA también puede verificar esto
@@ -25,8 +66,14 @@ public class Project {
     @Column(nullable = false, length = 100)
     private String name;
 
+    /**
+     * Carga perezosa: la descripción (hasta 5000 caracteres) no se lee con el resto
+     * de columnas, sino la primera vez que se llama a getDescription().
+     * EclipseLink lo implementa con "weaving", que Payara activa automáticamente.
+     */
     @Size(max = 5000)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String description;
 
     @Column(length = 20)
@@ -35,6 +82,13 @@ public class Project {
     // Soporte nativo de java.time (JPA 3.2)
     private LocalDate deadline;
 
+    /**
+     * Bloqueo optimista: JPA incrementa este número en cada UPDATE y falla
+     * (OptimisticLockException) si otro cambio llegó antes. También es el ETag del recurso.
+     */
+    @Version
+    private Long version;
+
     /**
      * ¡Aquí usamos nuestro Record @Embeddable!
      * JPA creará las columnas 'CREATEDBY' y 'CREATEDAT' en la tabla 'PROJECT'.
@@ -86,6 +140,7 @@ public class Project {
     public void setDeadline(LocalDate deadline) { this.deadline = deadline; }
     public AuditInfo getAuditInfo() { return auditInfo; }
     public void setAuditInfo(AuditInfo auditInfo) { this.auditInfo = auditInfo; }
+    public Long getVersion() { return version; }
     public List<Task> getTasks() { return tasks; }
     public void setTasks(List<Task> tasks) { this.tasks = tasks; }
 }
\ No newline at end of file
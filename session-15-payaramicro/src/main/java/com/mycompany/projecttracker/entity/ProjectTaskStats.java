@@ -0,0 +1,41 @@
+package com.mycompany.projecttracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Tabla resumen (rollup) con el número de tareas por proyecto y estado.
+ *
+ * Se mantiene de forma incremental, en la misma transacción que modifica las tareas,
+ * así que leerla nunca requiere recorrer la tabla TASK.
+ *
+ * Cada (proyecto, estado) se reparte en varias filas "stripe": dos transacciones
+ * concurrentes casi nunca actualizan la misma fila, y el total es la suma de las franjas.
+ */
+@Entity
+@Table(name = "PROJECT_TASK_STATS")
+public class ProjectTaskStats {
+
+    @EmbeddedId
+    private ProjectTaskStatsId id;
+
+    @Column(name = "TASK_COUNT", nullable = false)
+    private long taskCount;
+
+    @Column(name = "LAST_ACTIVITY")
+    private LocalDateTime lastActivity;
+
+    public ProjectTaskStats() {
+    }
+
+    // --- Getters y Setters ---
+    public ProjectTaskStatsId getId() { return id; }
+    public void setId(ProjectTaskStatsId id) { this.id = id; }
+    public long getTaskCount() { return taskCount; }
+    public void setTaskCount(long taskCount) { this.taskCount = taskCount; }
+    public LocalDateTime getLastActivity() { return lastActivity; }
+    public void setLastActivity(LocalDateTime lastActivity) { this.lastActivity = lastActivity; }
+}
@@ -0,0 +1,27 @@
+package com.mycompany.projecttracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+
+/**
+ * Clave compuesta de {@link ProjectTaskStats}: proyecto + estado + franja (stripe).
+ * Jakarta Persistence exige que las clases de clave primaria sean Serializable.
+ */
+@Embeddable
+public record ProjectTaskStatsId(
+    @Column(name = "PROJECT_ID")
+    Long projectId,
+
+    @Column(name = "STATUS", length = 50)
+    String status,
+
+    @Column(name = "STRIPE")
+    Integer stripe
+) implements Serializable {
+    // Constructor sin argumentos requerido por JPA (igual que en AuditInfo)
+    public ProjectTaskStatsId() {
+        this(null, null, null);
+    }
+}
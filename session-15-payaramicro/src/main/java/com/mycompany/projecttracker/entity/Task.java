@@ -3,16 +3,28 @@ package com.mycompany.projecttracker.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "TASK")
+@Table(name = "TASK", indexes = {
+    // TaskRepository.findOldTasks: WHERE status = ? AND createdAt < ?
+    // (primero la igualdad, luego el rango: así el índice sirve para ambos filtros)
+    @Index(name = "IDX_TASK_STATUS_CREATEDAT", columnList = "STATUS, CREATEDAT"),
+    // Tareas de un proyecto (relación @OneToMany, exportaciones). PostgreSQL no indexa las FK por sí solo.
+    @Index(name = "IDX_TASK_PROJECT_ID", columnList = "PROJECT_ID")
+})
 public class Task {
 
+    // Secuencia "pooled" (ver Project): el ID se conoce sin ejecutar el INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "TASK_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
+    // Bloqueo optimista (ver Project)
+    @Version
+    private Long version;
+
     private String status;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +44,7 @@ public class Task {
     public void setId(Long id) { this.id = id; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
+    public Long getVersion() { return version; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
     public Project getProject() { return project; }
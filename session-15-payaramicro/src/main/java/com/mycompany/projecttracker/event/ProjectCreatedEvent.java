@@ -5,6 +5,13 @@ import com.mycompany.projecttracker.model.ProjectDTO;
 /**
  * Evento CDI que se dispara cuando un proyecto es creado exitosamente.
  * Es un simple contenedor de datos.
+ *
+ * 'originClientId' identifica la vista del navegador que lo creó (si vino de index.xhtml):
+ * esa vista ya pintó la fila, así que el WebSocket no se lo vuelve a enviar. Null en el resto de casos.
  */
-public record ProjectCreatedEvent(ProjectDTO project) {
-}
\ No newline at end of file
+public record ProjectCreatedEvent(ProjectDTO project, String originClientId) {
+
+    public ProjectCreatedEvent(ProjectDTO project) {
+        this(project, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mycompany.projecttracker.event;
+
+/**
+ * Evento CDI que se dispara cuando se borra un proyecto (con sus tareas).
+ */
+public record ProjectDeletedEvent(Long projectId) {
+}
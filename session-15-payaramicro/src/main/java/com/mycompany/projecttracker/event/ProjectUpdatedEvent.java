@@ -0,0 +1,10 @@
+package com.mycompany.projecttracker.event;
+
+import com.mycompany.projecttracker.model.ProjectDTO;
+
+/**
+ * Evento CDI que se dispara cuando un proyecto existente cambia.
+ * Lo usan las cachés (para invalidarse) y los dashboards.
+ */
+public record ProjectUpdatedEvent(ProjectDTO project) {
+}
@@ -0,0 +1,9 @@
+package com.mycompany.projecttracker.event;
+
+import com.mycompany.projecttracker.model.TaskDTO;
+
+/**
+ * Evento CDI que se dispara cuando se crea una tarea (desde la API o desde el Batch).
+ */
+public record TaskCreatedEvent(Long projectId, TaskDTO task) {
+}
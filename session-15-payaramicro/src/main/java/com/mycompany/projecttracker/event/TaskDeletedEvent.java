@@ -0,0 +1,7 @@
+package com.mycompany.projecttracker.event;
+
+/**
+ * Evento CDI que se dispara cuando se borra una tarea.
+ */
+public record TaskDeletedEvent(Long projectId, Long taskId) {
+}
@@ -0,0 +1,9 @@
+package com.mycompany.projecttracker.event;
+
+import com.mycompany.projecttracker.model.TaskDTO;
+
+/**
+ * Evento CDI que se dispara cuando cambia una tarea (título o estado).
+ */
+public record TaskUpdatedEvent(Long projectId, TaskDTO task) {
+}
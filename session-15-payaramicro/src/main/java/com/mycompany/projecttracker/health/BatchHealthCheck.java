@@ -0,0 +1,60 @@
+package com.mycompany.projecttracker.health;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Trabajos batch en curso y fallidos, según la última muestra de BatchStateSampler.
+ *
+ * DOWN si hay más de 'health.batch.max-running' ejecuciones en curso a la vez:
+ * cada importación compite con las peticiones por CPU y conexiones.
+ * Los fallos recientes se informan como dato, no cambian el estado.
+ * Como en DatabaseHealthCheck, una muestra más antigua que 'health.batch.max-staleness-ms'
+ * (el muestreo se ha quedado bloqueado en el repositorio de batch) cuenta como DOWN.
+ */
+@Readiness
+@ApplicationScoped
+public class BatchHealthCheck implements HealthCheck {
+
+    @Inject
+    private BatchStateSampler sampler;
+
+    @Inject
+    @ConfigProperty(name = "health.batch.max-running", defaultValue = "2")
+    private int maxRunning;
+
+    @Inject
+    @ConfigProperty(name = "health.batch.max-staleness-ms", defaultValue = "30000")
+    private long maxStalenessMillis;
+
+    @Override
+    public HealthCheckResponse call() {
+        BatchStateSampler.Sample sample = sampler.getLastSample();
+        if (sample == null) {
+            return HealthCheckResponse.named("Batch Jobs")
+                .down()
+                .withData("error", "Todavía no hay ninguna muestra")
+                .build();
+        }
+
+        long age = sample.ageMillis();
+        boolean stale = age > maxStalenessMillis;
+        HealthCheckResponseBuilder response = HealthCheckResponse.named("Batch Jobs")
+            .status(sample.error() == null && !stale && sample.running() <= maxRunning)
+            .withData("running", sample.running())
+            .withData("maxRunning", maxRunning)
+            .withData("recentFailed", sample.failed())
+            .withData("sampleAgeMillis", age);
+        if (stale) {
+            response.withData("error", "Muestra caducada (más de " + maxStalenessMillis + " ms)");
+        } else if (sample.error() != null) {
+            response.withData("error", sample.error());
+        }
+        return response.build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.mycompany.projecttracker.health;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cuenta en segundo plano los trabajos batch en curso y fallidos.
+ *
+ * El repositorio de Batch es una base de datos y el recuento son varias consultas
+ * (jobs -> instancias -> ejecuciones). Igual que DatabaseStateSampler, se hace cada
+ * 'health.batch.sample-interval-ms' en el HealthScheduler y BatchHealthCheck solo lee
+ * la última muestra: ninguna sonda toca la base de datos.
+ */
+@ApplicationScoped
+public class BatchStateSampler {
+
+    /**
+     * Resultado de un recuento. Si falló, 'error' no es null y los contadores valen 0.
+     */
+    public record Sample(int running, int failed, String error, long sampledAtNanos) {
+
+        public long ageMillis() {
+            return (System.nanoTime() - sampledAtNanos) / 1_000_000;
+        }
+    }
+
+    @Resource(lookup = "java:app/concurrent/HealthScheduler")
+    private ManagedScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "health.batch.sample-interval-ms", defaultValue = "10000")
+    private long intervalMillis;
+
+    // Instancias más recientes de cada job que se revisan para contar fallos
+    @Inject
+    @ConfigProperty(name = "health.batch.recent-instances", defaultValue = "20")
+    private int recentInstances;
+
+    private volatile Sample lastSample;
+    private ScheduledFuture<?> task;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        task = scheduler.scheduleWithFixedDelay(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Última muestra (null si todavía no hay ninguna).
+     */
+    public Sample getLastSample() {
+        return lastSample;
+    }
+
+    void sample() {
+        try {
+            JobOperator jobOperator = BatchRuntime.getJobOperator();
+            int running = 0;
+            int failed = 0;
+            for (String jobName : jobOperator.getJobNames()) {
+                try {
+                    running += jobOperator.getRunningExecutions(jobName).size();
+                } catch (NoSuchJobException e) {
+                    // Ninguna ejecución en curso de este job
+                }
+                for (JobInstance instance : jobOperator.getJobInstances(jobName, 0, recentInstances)) {
+                    for (JobExecution execution : jobOperator.getJobExecutions(instance)) {
+                        if (execution.getBatchStatus() == BatchStatus.FAILED) {
+                            failed++;
+                        }
+                    }
+                }
+            }
+            lastSample = new Sample(running, failed, null, System.nanoTime());
+        } catch (RuntimeException e) {
+            lastSample = new Sample(0, 0, String.valueOf(e.getMessage()), System.nanoTime());
+        }
+    }
+}
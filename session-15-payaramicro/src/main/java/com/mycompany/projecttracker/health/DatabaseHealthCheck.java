@@ -1,41 +1,55 @@
 package com.mycompany.projecttracker.health;
 
-import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness; // Ojo: import de MicroProfile
-import javax.sql.DataSource;
-import java.sql.Connection;
 
+/**
+ * Estado de la base de datos, tal como lo vio la última muestra de DatabaseStateSampler.
+ *
+ * No toca el pool: cada sonda solo lee la muestra en memoria. Si la muestra es más antigua
+ * que 'health.db.max-staleness-ms' (el muestreo está bloqueado o se ha detenido),
+ * respondemos DOWN: no sabemos si la base de datos sigue accesible.
+ */
 @Readiness // Indica que este chequeo determina si la app está "Lista"
 @ApplicationScoped
 public class DatabaseHealthCheck implements HealthCheck {
 
-    // Inyectamos el mismo DataSource que configuramos en la Sesión 3
-    @Resource(lookup = "jdbc/projectTracker")
-    private DataSource ds;
+    @Inject
+    private DatabaseStateSampler sampler;
+
+    @Inject
+    @ConfigProperty(name = "health.db.max-staleness-ms", defaultValue = "15000")
+    private long maxStalenessMillis;
 
     @Override
     public HealthCheckResponse call() {
-
-        try (Connection conn = ds.getConnection()) {
-            if (conn.isValid(2)) { // Timeout de 2 segundos
-                return HealthCheckResponse.named("Database Connection")
-                    .up()
-                    .withData("database", "PostgreSQL at Docket")
-                    .build();
-            } else {
-                return HealthCheckResponse.named("Database Connection")
-                    .down()
-                    .withData("error", "Conexión inválida")
-                    .build();
-            }
-        } catch (Exception e) {
+        DatabaseStateSampler.Sample sample = sampler.getLastSample();
+        if (sample == null) {
             return HealthCheckResponse.named("Database Connection")
                 .down()
-                .withData("error", e.getMessage())
+                .withData("error", "Todavía no hay ninguna muestra")
                 .build();
         }
+
+        long age = sample.ageMillis();
+        boolean stale = age > maxStalenessMillis;
+        HealthCheckResponseBuilder response = HealthCheckResponse.named("Database Connection")
+            .status(sample.up() && !stale)
+            .withData("database", "PostgreSQL at Docket")
+            .withData("sampleAgeMillis", age)
+            .withData("latencyMicros", sample.latencyMicros());
+
+        if (stale) {
+            response.withData("error", "Muestra caducada (más de " + maxStalenessMillis + " ms)");
+        } else if (sample.error() != null) {
+            response.withData("error", sample.error());
+        }
+        sample.poolStats().forEach((name, value) -> response.withData("pool." + name, value));
+        return response.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.mycompany.projecttracker.health;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Comprueba la base de datos en segundo plano, no en cada sonda de Kubernetes.
+ *
+ * Cada 'health.db.sample-interval-ms' toma una conexión del pool, la valida y guarda
+ * el resultado (Sample). DatabaseHealthCheck solo lee esa muestra: responde en
+ * microsegundos y, aunque lleguen cien sondas a la vez, el pool presta una sola conexión.
+ *
+ * Junto a la muestra se leen las estadísticas del pool de Payara (conexiones en uso,
+ * libres, peticiones esperando y espera media). Salen del MBean de monitorización del
+ * pool, así que requieren la monitorización JDBC activada (ver post-boot-commands.asadmin);
+ * si no lo está, la muestra simplemente no las incluye.
+ */
+@ApplicationScoped
+public class DatabaseStateSampler {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseStateSampler.class.getName());
+
+    /**
+     * Resultado de una comprobación. 'poolStats' puede estar vacío.
+     */
+    public record Sample(boolean up, String error, long sampledAtNanos, long latencyMicros,
+                         Map<String, Long> poolStats) {
+
+        public long ageMillis() {
+            return (System.nanoTime() - sampledAtNanos) / 1_000_000;
+        }
+    }
+
+    // Atributos del MBean 'jdbc-connection-pool-mon' -> nombre en los datos del health check
+    private static final Map<String, String> POOL_ATTRIBUTES = Map.of(
+        "numconnused", "active",
+        "numconnfree", "idle",
+        "waitqueuelength", "waiting",
+        "averageconnwaittime", "avgWaitMillis"
+    );
+
+    @Resource(lookup = "jdbc/projectTracker")
+    private DataSource ds;
+
+    @Resource(lookup = "java:app/concurrent/HealthScheduler")
+    private ManagedScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "health.db.sample-interval-ms", defaultValue = "5000")
+    private long intervalMillis;
+
+    @Inject
+    @ConfigProperty(name = "health.db.validation-timeout-seconds", defaultValue = "2")
+    private int validationTimeoutSeconds;
+
+    @Inject
+    @ConfigProperty(name = "health.db.pool-name", defaultValue = "ProjectTrackerPool")
+    private String poolName;
+
+    private volatile Sample lastSample;
+    private ScheduledFuture<?> task;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        // Con retardo fijo: si una comprobación se bloquea, no se acumulan otras detrás
+        task = scheduler.scheduleWithFixedDelay(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Última muestra (null si todavía no hay ninguna).
+     */
+    public Sample getLastSample() {
+        return lastSample;
+    }
+
+    void sample() {
+        long start = System.nanoTime();
+        boolean up = false;
+        String error = null;
+        try (Connection conn = ds.getConnection()) {
+            up = conn.isValid(validationTimeoutSeconds);
+            if (!up) {
+                error = "Conexión inválida";
+            }
+        } catch (Exception e) {
+            error = e.getMessage();
+        }
+        long end = System.nanoTime();
+        lastSample = new Sample(up, error, end, (end - start) / 1_000, readPoolStats());
+    }
+
+    private Map<String, Long> readPoolStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (ObjectName name : server.queryNames(new ObjectName("amx:type=jdbc-connection-pool-mon,*"), null)) {
+                String monitored = name.getKeyProperty("name");
+                if (monitored == null || !monitored.endsWith(poolName)) {
+                    continue;
+                }
+                for (Map.Entry<String, String> attribute : POOL_ATTRIBUTES.entrySet()) {
+                    Long value = statisticValue(server.getAttribute(name, attribute.getKey()));
+                    if (value != null) {
+                        stats.put(attribute.getValue(), value);
+                    }
+                }
+                break;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Estadísticas del pool no disponibles", e);
+        }
+        return stats;
+    }
+
+    // Las estadísticas de Payara llegan como CompositeData: "current" (rangos) o "count" (contadores)
+    private static Long statisticValue(Object statistic) {
+        if (statistic instanceof CompositeData data) {
+            for (String key : new String[] {"current", "count"}) {
+                if (data.containsKey(key) && data.get(key) instanceof Number number) {
+                    return number.longValue();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mycompany.projecttracker.health;
+
+import com.mycompany.projecttracker.rest.ProjectEventStream;
+import com.mycompany.projecttracker.websocket.DashboardSessionManager;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Conexiones abiertas de larga duración: sesiones WebSocket del dashboard y clientes SSE.
+ *
+ * Cada una cuesta memoria y un envío por cada cambio. Por encima de los límites
+ * ('health.websocket.max-sessions', 'health.sse.max-clients') respondemos DOWN para
+ * que las conexiones nuevas vayan a otros nodos; las que ya están abiertas siguen funcionando.
+ */
+@Readiness
+@ApplicationScoped
+public class RealtimeHealthCheck implements HealthCheck {
+
+    @Inject
+    private DashboardSessionManager dashboard;
+
+    @Inject
+    private ProjectEventStream eventStream;
+
+    @Inject
+    @ConfigProperty(name = "health.websocket.max-sessions", defaultValue = "1000")
+    private int maxSessions;
+
+    @Inject
+    @ConfigProperty(name = "health.sse.max-clients", defaultValue = "1000")
+    private int maxClients;
+
+    @Override
+    public HealthCheckResponse call() {
+        int sessions = dashboard.getSessionCount();
+        int clients = eventStream.getClientCount();
+
+        return HealthCheckResponse.named("Realtime Connections")
+            .status(sessions < maxSessions && clients < maxClients)
+            .withData("websocketSessions", sessions)
+            .withData("websocketMaxSessions", maxSessions)
+            .withData("sseClients", clients)
+            .withData("sseMaxClients", maxClients)
+            .build();
+    }
+}
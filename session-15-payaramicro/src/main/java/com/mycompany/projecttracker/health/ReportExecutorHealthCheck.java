@@ -0,0 +1,44 @@
+package com.mycompany.projecttracker.health;
+
+import com.mycompany.projecttracker.service.report.ReportAdmissionController;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Saturación del ejecutor de reportes (VirtualExecutor detrás de ReportAdmissionController).
+ *
+ * Cuando la cola de admisión pasa de 'health.executor.max-queue-ratio' respondemos DOWN:
+ * el balanceador deja de enviarnos tráfico antes de que empecemos a rechazar reportes con 503.
+ * Es readiness y no liveness: una cola llena se vacía sola, reiniciar no ayuda.
+ */
+@Readiness
+@ApplicationScoped
+public class ReportExecutorHealthCheck implements HealthCheck {
+
+    @Inject
+    private ReportAdmissionController admission;
+
+    @Inject
+    @ConfigProperty(name = "health.executor.max-queue-ratio", defaultValue = "0.8")
+    private double maxQueueRatio;
+
+    @Override
+    public HealthCheckResponse call() {
+        int queued = admission.getQueuedCount();
+        int capacity = admission.getQueueCapacity();
+        double ratio = capacity == 0 ? 0 : (double) queued / capacity;
+
+        return HealthCheckResponse.named("Report Executor")
+            .status(ratio < maxQueueRatio)
+            .withData("active", admission.getActiveCount())
+            .withData("maxConcurrent", admission.getMaxConcurrent())
+            .withData("queued", queued)
+            .withData("queueCapacity", capacity)
+            .withData("rejected", admission.getRejectedCount())
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.projecttracker.health;
+
+import com.mycompany.projecttracker.startup.TrafficWarmup;
+import com.mycompany.projecttracker.startup.WarmupService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * La aplicación no está "Lista" hasta que termina el calentamiento en segundo plano.
+ * Los datos incluyen el perfil de arranque (ms por paso) y la latencia media
+ * antes/después del calentamiento del JIT.
+ */
+@Readiness
+@ApplicationScoped
+public class WarmupHealthCheck implements HealthCheck {
+
+    @Inject
+    private WarmupService warmupService;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder response = HealthCheckResponse.named("Warm-up")
+            .status(warmupService.isDone())
+            .withData("bootMillis", warmupService.getBootMillis());
+
+        if (warmupService.isDone()) {
+            response.withData("warmupMillis", warmupService.getWarmupMillis());
+            warmupService.getStepMillis().forEach((step, millis) -> response.withData(step + "Millis", millis));
+            TrafficWarmup.Result jit = warmupService.getJitResult();
+            if (jit != null) {
+                response.withData("jitIterations", jit.iterations());
+                jit.latencies().forEach((kind, latency) -> response
+                    .withData("jit." + kind.name().toLowerCase() + ".beforeMicros", latency.beforeMicros())
+                    .withData("jit." + kind.name().toLowerCase() + ".afterMicros", latency.afterMicros()));
+            }
+            warmupService.getFailures().forEach((step, error) -> response.withData(step + "Error", error));
+        }
+        return response.build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.mycompany.projecttracker.json;
+
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import com.mycompany.projecttracker.model.TaskDTO;
+import com.mycompany.projecttracker.model.TokenResponse;
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Serializadores JSON-B escritos a mano para los records que más se serializan.
+ *
+ * Por defecto JSON-B descubre las propiedades por reflexión y las recorre en cada llamada.
+ * Estos escriben directamente con JsonGenerator, sin reflexión.
+ *
+ * Producen exactamente el mismo JSON que JSON-B por defecto:
+ * - propiedades en orden alfabético,
+ * - las propiedades null no se escriben.
+ * Si se añade un componente a uno de estos records, hay que añadirlo aquí también:
+ * DtoSerializersTest compara su salida con la de JSON-B por defecto.
+ *
+ * Son a mano y no generados por un procesador de anotaciones: solo son cuatro records.
+ * Comparativa con JSON-B por defecto: JsonbBenchmark (src/jmh, perfil 'jmh').
+ */
+public final class DtoSerializers {
+
+    private DtoSerializers() {
+    }
+
+    public static JsonbSerializer<?>[] all() {
+        return new JsonbSerializer<?>[]{
+            new ProjectDTOSerializer(),
+            new ProjectSummarySerializer(),
+            new TaskDTOSerializer(),
+            new TokenResponseSerializer()
+        };
+    }
+
+    public static final class ProjectDTOSerializer implements JsonbSerializer<ProjectDTO> {
+        @Override
+        public void serialize(ProjectDTO project, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartObject();
+            write(generator, "description", project.description());
+            write(generator, "id", project.id());
+            write(generator, "name", project.name());
+            write(generator, "status", project.status());
+            write(generator, "version", project.version());
+            generator.writeEnd();
+        }
+    }
+
+    public static final class ProjectSummarySerializer implements JsonbSerializer<ProjectSummary> {
+        @Override
+        public void serialize(ProjectSummary project, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartObject();
+            write(generator, "id", project.id());
+            write(generator, "name", project.name());
+            write(generator, "status", project.status());
+            generator.writeEnd();
+        }
+    }
+
+    public static final class TaskDTOSerializer implements JsonbSerializer<TaskDTO> {
+        @Override
+        public void serialize(TaskDTO task, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartObject();
+            write(generator, "id", task.id());
+            write(generator, "status", task.status());
+            write(generator, "title", task.title());
+            generator.writeEnd();
+        }
+    }
+
+    public static final class TokenResponseSerializer implements JsonbSerializer<TokenResponse> {
+        @Override
+        public void serialize(TokenResponse response, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartObject();
+            write(generator, "token", response.token());
+            generator.writeEnd();
+        }
+    }
+
+    private static void write(JsonGenerator generator, String name, String value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+
+    private static void write(JsonGenerator generator, String name, Long value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+}
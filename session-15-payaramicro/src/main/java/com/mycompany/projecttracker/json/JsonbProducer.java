@@ -0,0 +1,40 @@
+package com.mycompany.projecttracker.json;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Única instancia de Jsonb de la aplicación, con los serializadores de DtoSerializers.
+ *
+ * Crear un Jsonb es caro (analiza clases, prepara caches internas) y es thread-safe:
+ * la compartimos entre JAX-RS (JsonbContextResolver), el WebSocket y las cachés.
+ * Se inyecta con: @Inject Jsonb jsonb;
+ */
+@ApplicationScoped
+public class JsonbProducer {
+
+    private static final Logger LOGGER = Logger.getLogger(JsonbProducer.class.getName());
+
+    @Produces
+    @ApplicationScoped
+    public Jsonb jsonb() {
+        JsonbConfig config = new JsonbConfig()
+            .withSerializers(DtoSerializers.all());
+        return JsonbBuilder.create(config);
+    }
+
+    public void close(@Disposes Jsonb jsonb) {
+        try {
+            jsonb.close();
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Error cerrando Jsonb", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.projecttracker.mapper;
 
 import com.mycompany.projecttracker.entity.Project;
+import com.mycompany.projecttracker.metrics.Instrumented;
 import com.mycompany.projecttracker.model.ProjectDTO;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -8,6 +9,7 @@ import jakarta.enterprise.context.ApplicationScoped;
  * Bean CDI para mapear entre Entidad (JPA) y DTO (API).
  */
 @ApplicationScoped
+@Instrumented(layer = "mapper")
 public class ProjectMapper {
 
     public ProjectDTO toDTO(Project entity) {
@@ -18,7 +20,8 @@ public class ProjectMapper {
             entity.getId(),
             entity.getName(),
             entity.getDescription(),
-            entity.getStatus()
+            entity.getStatus(),
+            entity.getVersion()
             // Nota: El DTO no incluye 'deadline' (por ahora, decisión de diseño)
         );
     }
@@ -0,0 +1,25 @@
+package com.mycompany.projecttracker.metrics;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Mide el tiempo de cada llamada a los métodos del bean (ver InstrumentedInterceptor).
+ *
+ * 'layer' agrupa las mediciones: "service", "mapper", "security"...
+ * Cada capa tiene su histograma en /metrics (layer_duration{layer="..."}).
+ */
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Instrumented {
+
+    @Nonbinding
+    String layer() default "app";
+}
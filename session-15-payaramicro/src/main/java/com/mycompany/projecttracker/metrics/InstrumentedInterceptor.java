@@ -0,0 +1,47 @@
+package com.mycompany.projecttracker.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Interceptor de @Instrumented: cronometra la llamada y la anota en
+ * el histograma de su capa y en la traza de la petición en curso.
+ */
+@Instrumented
+@Interceptor
+// Antes que @Transactional (PLATFORM_BEFORE + 200): el tiempo incluye el commit
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class InstrumentedInterceptor {
+
+    @Inject
+    private LayerMetrics layerMetrics;
+
+    @AroundInvoke
+    public Object time(InvocationContext ctx) throws Exception {
+        Instrumented binding = ctx.getInterceptorBinding(Instrumented.class);
+        String layer = binding != null ? binding.layer() : "app";
+
+        // Si un método de la capa llama a otro de la misma capa, solo cuenta el exterior
+        RequestTrace trace = RequestTrace.current();
+        boolean outermost = trace == null || trace.enter(layer);
+
+        long start = System.nanoTime();
+        try {
+            return ctx.proceed();
+        } finally {
+            if (outermost) {
+                long nanos = System.nanoTime() - start;
+                layerMetrics.record(layer, nanos);
+                if (trace != null) {
+                    trace.add(layer, nanos);
+                }
+            }
+            if (trace != null) {
+                trace.exit(layer);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mycompany.projecttracker.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Histograma de latencia por capa: layer_duration{layer="service"}, {layer="database"}...
+ *
+ * Es un Timer de MicroProfile Metrics; los percentiles que publica (p50, p99, p999)
+ * se fijan con 'mp.metrics.distribution.percentiles' en microprofile-config.properties.
+ *
+ * No se registra nada hasta que termina el calentamiento (WarmupService llama a startRecording()):
+ * miles de llamadas sintéticas y aún interpretadas inflarían el p99/p999 de producción.
+ */
+@ApplicationScoped
+public class LayerMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(LayerMetrics.class.getName());
+
+    public static final String METRIC = "layer_duration";
+
+    @Inject
+    private MetricRegistry registry;
+
+    // Un Timer por capa: evita buscarlo en el registro en cada llamada
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    public void startRecording() {
+        recording = true;
+    }
+
+    public void record(String layer, long nanos) {
+        if (!recording) {
+            return;
+        }
+        timers.computeIfAbsent(layer, l -> registry.timer(METRIC, new Tag("layer", l)))
+            .update(Duration.ofNanos(nanos));
+    }
+
+    /**
+     * Envuelve una tarea asíncrona para que herede la traza de quien la lanza:
+     * en el hilo del ejecutor se abre una traza hija (mismo trace-id) y al terminar
+     * se registra su duración en la capa 'layer' y su desglose en el log.
+     * Hay que llamarlo en el hilo de la petición.
+     */
+    public <T> Supplier<T> propagate(String layer, Supplier<T> task) {
+        RequestTrace parent = RequestTrace.current();
+        return () -> {
+            RequestTrace trace = RequestTrace.beginChild(parent);
+            try {
+                return task.get();
+            } finally {
+                long nanos = trace.getElapsedNanos();
+                record(layer, nanos);
+                LOGGER.fine(() -> "--> [Trace " + trace.getTraceId() + "] " + layer + " "
+                    + nanos / 1_000 + " µs " + trace.getNanosByLayer());
+                RequestTrace.end();
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.mycompany.projecttracker.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aciertos y fallos de la caché L2 en las lecturas de proyectos.
+ * Los cuenta el propio EclipseLink (eventos CacheHits / CacheMisses), que nos los
+ * pasa QueryTimingProfiler: no añaden ninguna consulta a la caché en cada lectura.
+ */
+@ApplicationScoped
+public class ProjectCacheMetrics {
+
+    // LongAdder: varios hilos incrementan a la vez sin competir por la misma variable
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public void recordLookup(boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    @Gauge(name = "project_cache_hits", absolute = true, unit = MetricUnits.NONE,
+        description = "Lecturas de proyecto resueltas desde la caché L2 (según EclipseLink)")
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Gauge(name = "project_cache_misses", absolute = true, unit = MetricUnits.NONE,
+        description = "Lecturas de proyecto que no encontraron el objeto en la caché L2 (según EclipseLink)")
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Gauge(name = "project_cache_hit_ratio", absolute = true, unit = MetricUnits.PERCENT,
+        description = "Porcentaje de aciertos de la caché L2 de proyectos")
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (hitCount * 100.0) / total;
+    }
+}
@@ -0,0 +1,128 @@
+package com.mycompany.projecttracker.metrics;
+
+import com.mycompany.projecttracker.entity.Project;
+import jakarta.enterprise.inject.spi.CDI;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Capa "database": tiempo de ejecución de las sentencias SQL y de lectura de filas.
+ *
+ * Los repositorios de Jakarta Data los implementa el servidor (no son beans nuestros),
+ * así que @Instrumented no llega a ellos. En su lugar, EclipseLink nos avisa de cada
+ * sentencia a través de su "profiler" (propiedad 'eclipselink.profiler' en persistence.xml),
+ * sea cual sea el origen de la consulta: repositorio, JPQL o SQL nativo.
+ *
+ * - El histograma layer_duration{layer="database"} recibe una muestra por sentencia
+ *   (StatementExecute). La lectura de filas (RowFetch) llega una vez por fila: como muestras
+ *   sueltas, una exportación de 10.000 filas llenaría los percentiles de microsegundos.
+ * - La traza de la petición (Server-Timing) suma ambas: es el tiempo total en la base de datos.
+ *
+ * De paso, cuenta los aciertos y fallos de la caché L2 en las lecturas de Project
+ * (eventos CacheHits / CacheMisses de EclipseLink) para ProjectCacheMetrics:
+ * son los que EclipseLink mide, no una estimación previa a la consulta.
+ *
+ * EclipseLink crea esta clase por reflexión: no es un bean CDI, buscamos los beans a mano.
+ */
+public class QueryTimingProfiler extends SessionProfilerAdapter {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryTimingProfiler.class.getName());
+
+    public static final String LAYER = "database";
+
+    // Inicio de cada operación en curso en este hilo
+    private static final ThreadLocal<Map<String, Long>> STARTS = ThreadLocal.withInitial(HashMap::new);
+
+    private volatile LayerMetrics layerMetrics;
+    private volatile ProjectCacheMetrics cacheMetrics;
+
+    @Override
+    public int getProfileWeight() {
+        return SessionProfiler.ALL;
+    }
+
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (isTimed(operationName)) {
+            STARTS.get().put(operationName, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (!isTimed(operationName)) {
+            return;
+        }
+        Long start = STARTS.get().remove(operationName);
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.add(LAYER, nanos);
+        }
+        if (!SessionProfiler.StatementExecute.equals(operationName)) {
+            return; // RowFetch: solo para la traza
+        }
+        LayerMetrics metrics = metrics();
+        if (metrics != null) {
+            metrics.record(LAYER, nanos);
+        }
+    }
+
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        boolean hit = SessionProfiler.CacheHits.equals(operationName);
+        if (!hit && !SessionProfiler.CacheMisses.equals(operationName)) {
+            return;
+        }
+        if (query == null || query.getReferenceClass() != Project.class) {
+            return;
+        }
+        ProjectCacheMetrics metrics = cacheMetrics();
+        if (metrics != null) {
+            metrics.recordLookup(hit);
+        }
+    }
+
+    private static boolean isTimed(String operationName) {
+        return SessionProfiler.StatementExecute.equals(operationName)
+            || SessionProfiler.RowFetch.equals(operationName);
+    }
+
+    private LayerMetrics metrics() {
+        LayerMetrics metrics = layerMetrics;
+        if (metrics == null) {
+            metrics = lookup(LayerMetrics.class);
+            layerMetrics = metrics;
+        }
+        return metrics;
+    }
+
+    private ProjectCacheMetrics cacheMetrics() {
+        ProjectCacheMetrics metrics = cacheMetrics;
+        if (metrics == null) {
+            metrics = lookup(ProjectCacheMetrics.class);
+            cacheMetrics = metrics;
+        }
+        return metrics;
+    }
+
+    private static <T> T lookup(Class<T> type) {
+        try {
+            return CDI.current().select(type).get();
+        } catch (IllegalStateException e) {
+            // CDI todavía no está disponible (ej. generación del esquema al desplegar)
+            LOGGER.log(Level.FINEST, type.getSimpleName() + " no disponible", e);
+            return null;
+        }
+    }
+}
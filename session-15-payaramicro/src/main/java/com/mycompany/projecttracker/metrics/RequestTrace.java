@@ -0,0 +1,106 @@
+package com.mycompany.projecttracker.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contexto de traza de la petición en curso (ligado al hilo).
+ *
+ * Acumula, por capa, el tiempo que la petición pasó en ella. El ID sigue el formato de
+ * W3C Trace Context: si la petición trae 'traceparent' se reutiliza su trace-id, y las
+ * tareas asíncronas (ReportAdmissionController) heredan el de la petición que las lanzó.
+ *
+ * Los tiempos son inclusivos: "service" incluye el "database" de sus consultas.
+ * Solo lo usa el hilo que lo creó, así que no necesita sincronización.
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> nanosByLayer = new LinkedHashMap<>();
+    private final Map<String, Integer> depthByLayer = new HashMap<>();
+
+    private RequestTrace(String traceId) {
+        this.traceId = traceId;
+    }
+
+    /**
+     * Abre una traza en el hilo actual. 'traceparent' puede ser null o inválido: se genera un ID nuevo.
+     */
+    public static RequestTrace begin(String traceparent) {
+        RequestTrace trace = new RequestTrace(parseTraceId(traceparent));
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Abre en el hilo actual una traza hija (mismo trace-id) de 'parent', o una nueva si no hay padre.
+     */
+    public static RequestTrace beginChild(RequestTrace parent) {
+        RequestTrace trace = new RequestTrace(parent != null ? parent.traceId : newTraceId());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Tiempo acumulado por capa, en el orden en que aparecieron.
+     */
+    public Map<String, Long> getNanosByLayer() {
+        return nanosByLayer;
+    }
+
+    /**
+     * Entra en una capa. Devuelve false si ya estábamos dentro (llamada anidada).
+     */
+    boolean enter(String layer) {
+        return depthByLayer.merge(layer, 1, Integer::sum) == 1;
+    }
+
+    void exit(String layer) {
+        depthByLayer.computeIfPresent(layer, (l, depth) -> depth > 1 ? depth - 1 : null);
+    }
+
+    /**
+     * Suma tiempo a una capa.
+     */
+    void add(String layer, long nanos) {
+        nanosByLayer.merge(layer, nanos, Long::sum);
+    }
+
+    // traceparent = "00-<trace-id: 32 hex>-<parent-id: 16 hex>-<flags: 2 hex>"
+    private static String parseTraceId(String traceparent) {
+        if (traceparent != null) {
+            String[] parts = traceparent.trim().split("-");
+            if (parts.length == 4 && parts[1].length() == 32 && parts[1].matches("[0-9a-f]+")
+                && !parts[1].equals("0".repeat(32))) {
+                return parts[1];
+            }
+        }
+        return newTraceId();
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+}
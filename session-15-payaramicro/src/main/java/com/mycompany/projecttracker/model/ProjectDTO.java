@@ -19,7 +19,10 @@ public record ProjectDTO(
     @Size(max = 5000, message = "La descripción no puede exceder los 5000 caracteres")
     String description,
 
-    String status
+    String status,
+
+    // Versión de la entidad (solo lectura): se usa como ETag
+    Long version
 ) {
     // El cuerpo del record sigue vacío.
     // Las anotaciones se colocan directamente en los componentes.
@@ -0,0 +1,17 @@
+package com.mycompany.projecttracker.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Resultado de un reporte de proyecto.
+ * Se calcula a partir de agregados (COUNT ... GROUP BY) sobre las tareas.
+ */
+public record ProjectReportDTO(
+    Long projectId,
+    String projectName,
+    long totalTasks,
+    Map<String, Long> tasksByStatus,
+    String requestedBy,
+    LocalDateTime generatedAt
+) {}
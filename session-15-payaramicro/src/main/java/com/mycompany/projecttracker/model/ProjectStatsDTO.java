@@ -0,0 +1,14 @@
+package com.mycompany.projecttracker.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Estadísticas precalculadas de un proyecto (GET /projects/{id}/stats).
+ */
+public record ProjectStatsDTO(
+    Long projectId,
+    long totalTasks,
+    Map<String, Long> tasksByStatus,
+    LocalDateTime lastActivity
+) {}
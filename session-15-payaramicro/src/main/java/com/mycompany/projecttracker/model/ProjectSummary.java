@@ -0,0 +1,15 @@
+package com.mycompany.projecttracker.model;
+
+/**
+ * Versión ligera de un proyecto para los listados.
+ *
+ * Se construye directamente en la consulta (JPQL "SELECT NEW ..."), así que:
+ * - no se crean entidades gestionadas ni se llena el contexto de persistencia,
+ * - no se cargan las tareas (EAGER en la entidad),
+ * - no se lee la descripción (@Lob), que solo viaja en GET /projects/{id}.
+ */
+public record ProjectSummary(
+    Long id,
+    String name,
+    String status
+) {}
@@ -0,0 +1,16 @@
+package com.mycompany.projecttracker.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista pública del estado de un job de reporte (GET /reports/jobs/{id}).
+ */
+public record ReportJobDTO(
+    String jobId,
+    Long projectId,
+    String status,
+    String requestedBy,
+    LocalDateTime submittedAt,
+    LocalDateTime completedAt,
+    String error
+) {}
@@ -0,0 +1,10 @@
+package com.mycompany.projecttracker.model;
+
+/**
+ * Proyección de una consulta agregada: cuántas tareas hay en un estado.
+ * Se construye directamente en JPQL con "SELECT NEW", sin cargar entidades.
+ */
+public record TaskStatusCount(
+    String status,
+    Long total
+) {}
@@ -0,0 +1,6 @@
+package com.mycompany.projecttracker.model;
+
+/**
+ * Respuesta de POST /auth/login: el JWT emitido.
+ */
+public record TokenResponse(String token) {}
@@ -1,9 +1,14 @@
 package com.mycompany.projecttracker.repository;
 
 import com.mycompany.projecttracker.entity.Project;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import jakarta.data.Limit;
 import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.Param;
+import jakarta.data.repository.Query;
 import jakarta.data.repository.Repository;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio de Jakarta Data 1.0.
@@ -20,9 +25,40 @@ public interface ProjectRepository extends BasicRepository<Project, Long> {
      * * Jakarta Data analiza el nombre del método: "findByStatus".
      * Sabe que debe buscar proyectos donde el campo 'status' coincida con el parámetro.
      * No hace falta escribir JPQL ni SQL.
+     *
+     * (Los listados usan la @NamedQuery Project.findByStatus, una proyección
+     * que además guarda los resultados en la caché de consultas de EclipseLink.)
      */
     List<Project> findByStatus(String status);
 
+    /**
+     * Listado de proyectos como proyección: solo las columnas del resumen,
+     * sin entidades, sin tareas y sin la descripción (@Lob).
+     */
+    @Query("SELECT NEW com.mycompany.projecttracker.model.ProjectSummary(p.id, p.name, p.status) FROM Project p ORDER BY p.id")
+    List<ProjectSummary> findAllSummaries();
+
+    /**
+     * Una página del listado por "keyset" (cursor): los proyectos con ID mayor que 'afterId'.
+     * A diferencia de OFFSET, la BBDD salta directamente al cursor por el índice de la PK,
+     * así que la página 1000 cuesta lo mismo que la primera.
+     */
+    @Query("SELECT NEW com.mycompany.projecttracker.model.ProjectSummary(p.id, p.name, p.status) " +
+           "FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProjectSummary> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Solo el nombre del proyecto: evita cargar la entidad completa (y sus tareas EAGER).
+     */
+    @Query("SELECT p.name FROM Project p WHERE p.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * Solo la versión (ETag): una columna, sin construir la entidad ni sus tareas.
+     */
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     // Ejemplo adicional: Buscar por nombre
     // Optional<Project> findByName(String name);
 }
\ No newline at end of file
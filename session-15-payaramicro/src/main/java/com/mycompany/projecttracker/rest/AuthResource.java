@@ -1,5 +1,6 @@
 package com.mycompany.projecttracker.rest;
 
+import com.mycompany.projecttracker.model.TokenResponse;
 import com.mycompany.projecttracker.security.TokenService;
 import jakarta.inject.Inject;
 import jakarta.security.enterprise.credential.UsernamePasswordCredential;
@@ -10,7 +11,6 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import java.util.Map;
 
 @Path("/auth")
 public class AuthResource {
@@ -36,7 +36,7 @@ public class AuthResource {
         if (result.getStatus() == CredentialValidationResult.Status.VALID) {
             // 2. Si es válido, generar JWT
             String token = tokenService.generateToken(result.getCallerPrincipal().getName(), result.getCallerGroups());
-            return Response.ok(Map.of("token", token)).build();
+            return Response.ok(new TokenResponse(token)).build();
         } else {
             return Response.status(Response.Status.UNAUTHORIZED).build();
         }
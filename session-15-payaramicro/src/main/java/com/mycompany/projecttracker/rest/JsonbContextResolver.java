@@ -0,0 +1,22 @@
+package com.mycompany.projecttracker.rest;
+
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Hace que JAX-RS use nuestro Jsonb (el de JsonbProducer) para leer y escribir JSON,
+ * en lugar de crear uno propio con la configuración por defecto.
+ */
+@Provider
+public class JsonbContextResolver implements ContextResolver<Jsonb> {
+
+    @Inject
+    private Jsonb jsonb;
+
+    @Override
+    public Jsonb getContext(Class<?> type) {
+        return jsonb;
+    }
+}
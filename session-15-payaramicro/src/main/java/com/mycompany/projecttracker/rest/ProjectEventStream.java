@@ -0,0 +1,213 @@
+package com.mycompany.projecttracker.rest;
+
+import com.mycompany.projecttracker.event.ProjectCreatedEvent;
+import com.mycompany.projecttracker.event.ProjectDeletedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Difunde los cambios de proyectos a los clientes de GET /projects/events (Server-Sent Events).
+ *
+ * - Cada evento recibe un ID creciente y se guarda en un búfer de repetición acotado
+ *   ('events.replay-size'). Un cliente que se reconecta con Last-Event-ID recibe lo que se perdió.
+ *   Si ya no está en el búfer (o el servidor se reinició), recibe un evento "resync":
+ *   debe volver a leer GET /projects.
+ * - Cada cliente tiene su propia cola acotada ('events.client-queue') y su propio hilo
+ *   virtual que la vacía. Un cliente lento no frena a los demás: si su cola se llena,
+ *   se le cierra la conexión y al reconectar se pone al día con el búfer.
+ *
+ * Los IDs son por nodo: detrás de un balanceador, el cliente debe volver al mismo nodo.
+ */
+@ApplicationScoped
+public class ProjectEventStream {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectEventStream.class.getName());
+
+    public static final String CREATED = "project-created";
+    public static final String UPDATED = "project-updated";
+    public static final String DELETED = "project-deleted";
+    public static final String RESYNC = "resync";
+
+    private record StoredEvent(long id, String name, String data) {}
+
+    @Resource(lookup = "java:app/concurrent/VirtualThreadFactory")
+    private ManagedThreadFactory threadFactory;
+
+    @Inject
+    private Jsonb jsonb;
+
+    @Inject
+    @ConfigProperty(name = "events.replay-size", defaultValue = "256")
+    private int replaySize;
+
+    @Inject
+    @ConfigProperty(name = "events.client-queue", defaultValue = "64")
+    private int clientQueueSize;
+
+    // Comentario SSE periódico: mantiene viva la conexión y detecta clientes desconectados
+    @Inject
+    @ConfigProperty(name = "events.heartbeat-seconds", defaultValue = "15")
+    private int heartbeatSeconds;
+
+    // 'sequence' y 'replay' se protegen con 'this': publicar y suscribirse no se solapan,
+    // así un cliente nuevo no pierde ni repite eventos entre la repetición y los nuevos.
+    private long sequence;
+    private final Deque<StoredEvent> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public void onProjectCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectCreatedEvent event) {
+        publish(CREATED, jsonb.toJson(event.project()));
+    }
+
+    public void onProjectUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectUpdatedEvent event) {
+        publish(UPDATED, jsonb.toJson(event.project()));
+    }
+
+    public void onProjectDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectDeletedEvent event) {
+        publish(DELETED, jsonb.toJson(Map.of("id", event.projectId())));
+    }
+
+    /**
+     * Registra un cliente. 'lastEventId' es el último ID que recibió (null si es nuevo).
+     */
+    public void subscribe(SseEventSink sink, Sse sse, Long lastEventId) {
+        List<StoredEvent> missed = new ArrayList<>();
+        Subscriber subscriber = new Subscriber(sink, sse, missed);
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                long oldest = replay.isEmpty() ? sequence + 1 : replay.peekFirst().id();
+                if (lastEventId > sequence || lastEventId < oldest - 1) {
+                    // Hueco que no podemos rellenar
+                    missed.add(new StoredEvent(sequence, RESYNC, "{}"));
+                } else {
+                    replay.stream().filter(event -> event.id() > lastEventId).forEach(missed::add);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        threadFactory.newThread(subscriber).start();
+    }
+
+    private void publish(String name, String data) {
+        synchronized (this) {
+            StoredEvent event = new StoredEvent(++sequence, name, data);
+            replay.addLast(event);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                // offer() no bloquea: el hilo que confirma la transacción nunca espera a un cliente
+                if (!subscriber.queue.offer(event)) {
+                    LOGGER.fine("--> [SSE] Cliente demasiado lento, se desconecta");
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    @Gauge(name = "project_events_clients", absolute = true, unit = MetricUnits.NONE,
+        description = "Clientes conectados a GET /projects/events")
+    public int getClientCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * Un cliente conectado: su cola y el bucle (en un hilo virtual) que le envía los eventos.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEventSink sink;
+        private final Sse sse;
+        private final List<StoredEvent> missed;
+        private final BlockingQueue<StoredEvent> queue = new ArrayBlockingQueue<>(clientQueueSize);
+        private volatile Thread thread;
+
+        Subscriber(SseEventSink sink, Sse sse, List<StoredEvent> missed) {
+            this.sink = sink;
+            this.sse = sse;
+            this.missed = missed;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            try {
+                for (StoredEvent event : missed) {
+                    send(toSse(event));
+                }
+                while (!sink.isClosed()) {
+                    StoredEvent event = queue.poll(heartbeatSeconds, TimeUnit.SECONDS);
+                    send(event != null ? toSse(event) : sse.newEventBuilder().comment("ping").build());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // El cliente cerró la conexión (o falló la escritura)
+                LOGGER.log(Level.FINE, "--> [SSE] Cliente desconectado", e);
+            } finally {
+                close();
+            }
+        }
+
+        private OutboundSseEvent toSse(StoredEvent event) {
+            return sse.newEventBuilder()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(String.class, event.data())
+                .build();
+        }
+
+        private void send(OutboundSseEvent event) {
+            // Esperamos a que se escriba: así la cola (y no el contenedor) absorbe la lentitud del cliente
+            sink.send(event).toCompletableFuture().join();
+        }
+
+        void close() {
+            if (subscribers.remove(this)) {
+                try {
+                    sink.close();
+                } catch (Exception e) {
+                    LOGGER.log(Level.FINE, "Error cerrando SSE", e);
+                }
+                Thread sender = thread;
+                if (sender != null && sender != Thread.currentThread()) {
+                    sender.interrupt();
+                }
+            }
+        }
+    }
+}
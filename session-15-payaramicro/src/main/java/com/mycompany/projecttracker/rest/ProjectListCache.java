@@ -0,0 +1,158 @@
+package com.mycompany.projecttracker.rest;
+
+import com.mycompany.projecttracker.event.ProjectCreatedEvent;
+import com.mycompany.projecttracker.event.ProjectDeletedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import fish.payara.micro.cdi.Inbound;
+import fish.payara.micro.cdi.Outbound;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de la respuesta de GET /projects ya serializada (y comprimida), por estado.
+ *
+ * Mientras no cambie ningún proyecto, la respuesta es siempre la misma: la guardamos
+ * como byte[] y se escribe tal cual, sin consultar la BBDD ni volver a generar el JSON.
+ * Se vacía entera cuando se crea, modifica o borra un proyecto (tras el commit).
+ *
+ * La caché es de cada nodo. Con varios nodos (Payara Micro en cluster, ver la coordinación
+ * de la caché L2 en persistence.xml) el nodo que hace el cambio avisa a los demás con un
+ * evento CDI de cluster (@Outbound / @Inbound, sobre Hazelcast). Por si un aviso se pierde
+ * (nodo aislado, cluster desactivado), cada listado caduca además a los 'cache.projects-list.ttl-ms':
+ * ese es el máximo tiempo que otro nodo puede servir un listado antiguo.
+ */
+@ApplicationScoped
+public class ProjectListCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectListCache.class.getName());
+
+    // Clave para el listado sin filtro de estado
+    private static final String ALL = "";
+
+    // El estado lo envía el cliente: limitamos cuántas variantes guardamos
+    private static final int MAX_ENTRIES = 32;
+
+    /**
+     * Respuesta lista para enviar. 'gzip' es null si el JSON es demasiado pequeño para comprimir.
+     */
+    public record Entry(byte[] json, byte[] gzip) {}
+
+    /**
+     * Aviso entre nodos: "un proyecto ha cambiado, vacía tu caché".
+     */
+    public record ClusterInvalidation() implements Serializable {}
+
+    private record Stored(Entry entry, long expiresAtNanos) {}
+
+    @Inject
+    private Jsonb jsonb;
+
+    @Inject
+    @ConfigProperty(name = "compression.min-size", defaultValue = "1024")
+    private int minCompressSize;
+
+    @Inject
+    @ConfigProperty(name = "cache.projects-list.ttl-ms", defaultValue = "30000")
+    private long ttlMillis;
+
+    // Se publica en los demás nodos del cluster (no en este: aquí ya invalidan los observers de abajo)
+    @Inject
+    @Outbound
+    private Event<ClusterInvalidation> clusterInvalidation;
+
+    private final Map<String, Stored> entries = new ConcurrentHashMap<>();
+
+    // Se incrementa en cada invalidación: evita guardar un listado leído antes de un cambio
+    private long generation;
+
+    public Entry get(String status, Supplier<List<ProjectSummary>> loader) {
+        String key = status == null || status.isBlank() ? ALL : status;
+        Stored cached = entries.get(key);
+        if (cached != null && System.nanoTime() - cached.expiresAtNanos() < 0) {
+            return cached.entry();
+        }
+
+        long readGeneration = currentGeneration();
+        Entry fresh = serialize(loader.get());
+        store(key, fresh, readGeneration);
+        return fresh;
+    }
+
+    public void onProjectCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectCreatedEvent event) {
+        invalidateEverywhere();
+    }
+
+    public void onProjectUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectUpdatedEvent event) {
+        invalidateEverywhere();
+    }
+
+    public void onProjectDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectDeletedEvent event) {
+        invalidateEverywhere();
+    }
+
+    // Cambio hecho en otro nodo
+    public void onClusterInvalidation(@Observes @Inbound ClusterInvalidation event) {
+        invalidate();
+    }
+
+    private void invalidateEverywhere() {
+        invalidate();
+        try {
+            clusterInvalidation.fire(new ClusterInvalidation());
+        } catch (RuntimeException e) {
+            // Sin cluster los demás nodos no se enteran: su copia caduca por TTL
+            LOGGER.warning("--> No se pudo avisar al cluster de la invalidación: " + e.getMessage());
+        }
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void store(String key, Entry entry, long readGeneration) {
+        if (generation == readGeneration && (entries.size() < MAX_ENTRIES || entries.containsKey(key))) {
+            entries.put(key, new Stored(entry, System.nanoTime() + ttlMillis * 1_000_000));
+        }
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        entries.clear();
+        LOGGER.fine("--> Caché de listados de proyectos invalidada");
+    }
+
+    /**
+     * JSON (y gzip) de un listado, sin guardarlo. TrafficWarmup lo usa para calentar este camino.
+     */
+    public Entry serialize(List<ProjectSummary> projects) {
+        byte[] json = jsonb.toJson(projects).getBytes(StandardCharsets.UTF_8);
+        if (json.length < minCompressSize) {
+            return new Entry(json, null);
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Entry(json, compressed.toByteArray());
+    }
+}
@@ -2,13 +2,25 @@ package com.mycompany.projecttracker.rest;
 
 import com.mycompany.projecttracker.model.ProjectDTO;
 import com.mycompany.projecttracker.model.TaskDTO;
+import com.mycompany.projecttracker.rest.interceptor.Compress;
+import com.mycompany.projecttracker.rest.interceptor.GzipWriterInterceptor;
+import com.mycompany.projecttracker.service.ProjectPatchService;
 import com.mycompany.projecttracker.service.ProjectService;
+import com.mycompany.projecttracker.service.search.ProjectSearchService;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.batch.operations.JobOperator;
+import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.JobExecution;
 import jakarta.inject.Inject;
+import jakarta.json.JsonObject;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PATCH;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -17,14 +29,21 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import org.eclipse.microprofile.metrics.annotation.Counted;
 import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.net.URI;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -36,48 +55,240 @@ import java.util.Properties;
 @Consumes(MediaType.APPLICATION_JSON)
 public class ProjectResource {
 
+    // JSON Merge Patch (RFC 7396): solo se envían los campos que cambian; null borra el valor
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     // --- ¡Toda la lógica de la "base de datos" ha desaparecido! ---
 
     @Inject // 3. ¡La magia de CDI!
     private ProjectService projectService; // CDI inyectará el singleton aquí
 
+    @Inject
+    private ProjectPatchService patchService;
+
+    @Inject
+    private ProjectSearchService searchService;
+
+    @Inject
+    private ProjectListCache listCache;
+
+    @Inject
+    private ProjectEventStream eventStream;
+
     @Context
     private UriInfo uriInfo;
 
+    @Context
+    private HttpHeaders httpHeaders;
+
+    @Context
+    private Request request;
+
     /**
      * Método para OBTENER proyectos, opcionalmente filtrando por estado.
      * Responde a: GET /resources/projects?status=Activo
+     * Devuelve resúmenes (id, nombre, estado); el detalle completo está en GET /projects/{id}.
+     * Con ?fields=id,name,description se eligen exactamente las columnas a leer.
+     *
+     * El listado sin 'fields' se sirve desde ProjectListCache: JSON ya serializado y,
+     * si el cliente acepta gzip, ya comprimido. Se escribe tal cual, sin volver a generarlo.
      */
     @GET
     @PermitAll // Público (o usa @RolesAllowed("USER") si quieres cerrarlo)
+    @Compress
     // @Counted: Cuenta cuántas veces se llama a este método (monótono incremental)
     @Counted(name = "getAllProjects_total", description = "Total de veces que se listaron los proyectos")
     // @Timed: Mide cuánto tarda la ejecución y estadísticas (media, max, min)
     @Timed(name = "getAllProjects_timer", description = "Tiempo de respuesta de listado", unit = "milliseconds")
-    public Response getProjects(@QueryParam("status") String status) {
-        List<ProjectDTO> projects;
+    public Response getProjects(@QueryParam("status") String status, @QueryParam("fields") String fields) {
+        if (fields != null && !fields.isBlank()) {
+            try {
+                return Response.ok(projectService.findAllFields(fields, status)).build();
+            } catch (IllegalArgumentException e) {
+                return badRequest(e);
+            }
+        }
+
+        ProjectListCache.Entry cached = listCache.get(status, () -> {
+            if (status != null && !status.isBlank()) {
+                // Usamos nuestro nuevo método de Jakarta Data
+                return projectService.findByStatus(status);
+            }
+            return projectService.findAll();
+        });
+
+        if (cached.gzip() != null && GzipWriterInterceptor.acceptsGzip(httpHeaders)) {
+            // Ya viene comprimido: el interceptor ve el Content-Encoding y no lo vuelve a comprimir
+            return Response.ok(cached.gzip())
+                .header(HttpHeaders.CONTENT_ENCODING, GzipWriterInterceptor.GZIP)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+        return Response.ok(cached.json()).build();
+    }
 
-        if (status != null && !status.isBlank()) {
-            // Usamos nuestro nuevo método de Jakarta Data
-            projects = projectService.findByStatus(status);
-        } else {
-            projects = projectService.findAll();
+    /**
+     * Búsqueda de texto en nombre, descripción y títulos de tareas.
+     * Responde a: GET /resources/projects/search?q=diseño web&limit=20
+     * Devuelve los proyectos que contienen todas las palabras buscadas.
+     */
+    @GET
+    @Path("/search")
+    @PermitAll
+    @Compress
+    public Response search(@QueryParam("q") String query, @QueryParam("limit") @DefaultValue("20") int limit) {
+        if (query == null || query.isBlank()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("message", "El parámetro 'q' es obligatorio"))
+                .build();
         }
+        return Response.ok(searchService.search(query, limit)).build();
+    }
 
-        return Response.ok(projects).build();
+    /**
+     * Cambios de proyectos en tiempo real (Server-Sent Events), alternativa al WebSocket.
+     * Responde a: GET /resources/projects/events
+     * Eventos: project-created, project-updated, project-deleted (y "resync" si hay que recargar).
+     * Al reconectar, el navegador envía Last-Event-ID y recibe los eventos que se perdió.
+     */
+    @GET
+    @Path("/events")
+    @PermitAll
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void events(@Context SseEventSink sink, @Context Sse sse,
+                       @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId) {
+        Long lastId = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                lastId = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                lastId = -1L; // ID que no es nuestro: el cliente debe resincronizar
+            }
+        }
+        eventStream.subscribe(sink, sse, lastId);
     }
 
     /**
      * Método para OBTENER un proyecto por su ID.
      * Responde a: GET /resources/projects/{id}
+     * (Con ?fields=id,name solo se leen esas columnas)
+     *
+     * Peticiones condicionales: la respuesta lleva un ETag (la versión del proyecto).
+     * Si el cliente envía If-None-Match con ese ETag, respondemos 304 sin cuerpo.
      */
     @GET
     @Path("/{id}")
     @PermitAll
-    public Response getProjectById(@PathParam("id") Long id) {
+    public Response getProjectById(@PathParam("id") Long id, @QueryParam("fields") String fields) {
+        if (fields != null && !fields.isBlank()) {
+            try {
+                return projectService.findFieldsById(id, fields)
+                    .map(project -> Response.ok(project).build())
+                    .orElse(Response.status(Response.Status.NOT_FOUND).build());
+            } catch (IllegalArgumentException e) {
+                return badRequest(e);
+            }
+        }
+
+        Optional<Long> version = projectService.findVersion(id);
+        if (version.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).build(); // 404 si no
+        }
+
+        // 304 Not Modified: ni construimos el DTO ni lo serializamos
+        EntityTag etag = etagOf(version.get());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
         return projectService.findById(id)
-            .map(project -> Response.ok(project).build()) // 200 OK si se encuentra
-            .orElse(Response.status(Response.Status.NOT_FOUND).build()); // 404 si no
+            .map(project -> Response.ok(project).tag(etag).build()) // 200 OK si se encuentra
+            .orElse(Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Método para ACTUALIZAR un proyecto completo.
+     * Responde a: PUT /resources/projects/{id}
+     * Con If-Match: "versión" solo se actualiza si nadie lo cambió antes (si no, 412).
+     */
+    @PUT
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Response updateProject(@PathParam("id") Long id, @Valid ProjectDTO projectRequest,
+                                  @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
+        Optional<Long> version = projectService.findVersion(id);
+        if (version.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        // 412 Precondition Failed si el If-Match no coincide con la versión actual
+        Response.ResponseBuilder preconditionFailed = request.evaluatePreconditions(etagOf(version.get()));
+        if (preconditionFailed != null) {
+            return preconditionFailed.build();
+        }
+
+        // Pasamos la versión esperada para cubrir también la carrera entre la comprobación y el UPDATE
+        Long expectedVersion = ifMatch != null ? version.get() : null;
+        return projectService.update(id, projectRequest, expectedVersion)
+            .map(updated -> Response.ok(updated).tag(etagOf(updated.version())).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Método para MODIFICAR parte de un proyecto.
+     * Responde a: PATCH /resources/projects/{id}
+     * Content-Type: application/merge-patch+json, ej: {"status": "Cerrado"}
+     * Se actualizan solo esas columnas, sin cargar el proyecto. Admite If-Match (412 si no coincide).
+     */
+    @PATCH
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    @Consumes(MERGE_PATCH_JSON)
+    public Response patchProject(@PathParam("id") Long id, JsonObject patch,
+                                 @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
+        Optional<Long> expectedVersion = versionOf(ifMatch);
+        if (ifMatch != null && !"*".equals(ifMatch.trim()) && expectedVersion.isEmpty()) {
+            return Response.status(Response.Status.PRECONDITION_FAILED).build(); // ETag que no es nuestro
+        }
+        try {
+            return patchService.patchProject(id, patch, expectedVersion.orElse(null))
+                .map(updated -> Response.ok(updated).tag(etagOf(updated.version())).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND).build());
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+    }
+
+    /**
+     * Método para BORRAR un proyecto con todas sus tareas.
+     * Responde a: DELETE /resources/projects/{id} (204, 404, o 412 si If-Match no coincide)
+     */
+    @DELETE
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Response deleteProject(@PathParam("id") Long id, @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
+        Optional<Long> expectedVersion = versionOf(ifMatch);
+        if (ifMatch != null && !"*".equals(ifMatch.trim()) && expectedVersion.isEmpty()) {
+            return Response.status(Response.Status.PRECONDITION_FAILED).build();
+        }
+        return patchService.deleteProject(id, expectedVersion.orElse(null))
+            ? Response.noContent().build()
+            : Response.status(Response.Status.NOT_FOUND).build();
+    }
+
+    /**
+     * Estadísticas de tareas por estado del proyecto.
+     * Responde a: GET /resources/projects/{id}/stats
+     * Se leen de la tabla resumen PROJECT_TASK_STATS (coste constante).
+     */
+    @GET
+    @Path("/{id}/stats")
+    @PermitAll
+    public Response getProjectStats(@PathParam("id") Long id) {
+        return projectService.getStats(id)
+            .map(stats -> Response.ok(stats).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND).build());
     }
 
     /**
@@ -110,18 +321,123 @@ public class ProjectResource {
         }
     }
 
+    /**
+     * Sub-recurso: Modificar parte de una tarea.
+     * PATCH /api/projects/{id}/tasks/{taskId}, ej: {"status": "Hecha"}
+     */
+    @PATCH
+    @Path("/{id}/tasks/{taskId}")
+    @RolesAllowed({"ADMIN", "USER"})
+    @Consumes(MERGE_PATCH_JSON)
+    public Response patchTask(@PathParam("id") Long projectId, @PathParam("taskId") Long taskId, JsonObject patch) {
+        try {
+            return patchService.patchTask(projectId, taskId, patch)
+                .map(task -> Response.ok(task).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND).build());
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+    }
+
+    /**
+     * Sub-recurso: Borrar una tarea.
+     * DELETE /api/projects/{id}/tasks/{taskId}
+     */
+    @DELETE
+    @Path("/{id}/tasks/{taskId}")
+    @RolesAllowed({"ADMIN", "USER"})
+    public Response deleteTask(@PathParam("id") Long projectId, @PathParam("taskId") Long taskId) {
+        return patchService.deleteTask(projectId, taskId)
+            ? Response.noContent().build()
+            : Response.status(Response.Status.NOT_FOUND).build();
+    }
+
+    /**
+     * Lanza la importación de tareas (job batch 'taskImportJob').
+     * Parámetros opcionales, para medir la ruta de importación (bench/insert-benchmark.sh):
+     *   syntheticRows: genera N tareas en vez de leer el CSV de ejemplo
+     *   projectIds:    proyectos entre los que se reparten (ej. "1,2,3")
+     *   chunkSize:     tareas por transacción (por defecto 3)
+     */
     @POST
     @Path("/import")
     @RolesAllowed("ADMIN")
-    public Response runImport() {
+    public Response runImport(@QueryParam("syntheticRows") Long syntheticRows,
+                              @QueryParam("projectIds") String projectIds,
+                              @QueryParam("chunkSize") Integer chunkSize) {
         // 1. Obtener el operador de Batch del contenedor
         JobOperator jobOperator = BatchRuntime.getJobOperator();
 
+        Properties parameters = new Properties();
+        if (syntheticRows != null) {
+            if (syntheticRows <= 0 || projectIds == null || projectIds.isBlank()) {
+                return badRequest(new IllegalArgumentException("syntheticRows necesita un valor positivo y projectIds"));
+            }
+            parameters.setProperty("syntheticRows", String.valueOf(syntheticRows));
+            parameters.setProperty("projectIds", projectIds);
+        }
+        if (chunkSize != null) {
+            parameters.setProperty("chunkSize", String.valueOf(Math.max(1, chunkSize)));
+        }
+
         // 2. Iniciar el trabajo por su nombre XML (sin la extensión .xml)
-        long executionId = jobOperator.start("taskImportJob", new Properties());
+        long executionId = jobOperator.start("taskImportJob", parameters);
 
         return Response.accepted()
             .entity("Job de importación iniciado con Execution ID: " + executionId)
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Estado de una ejecución de la importación (STARTED, COMPLETED, FAILED...) y sus tiempos.
+     * GET /resources/projects/import/{executionId}
+     */
+    @GET
+    @Path("/import/{executionId}")
+    @RolesAllowed("ADMIN")
+    public Response getImport(@PathParam("executionId") long executionId) {
+        try {
+            JobExecution execution = BatchRuntime.getJobOperator().getJobExecution(executionId);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("executionId", executionId);
+            body.put("status", execution.getBatchStatus().name());
+            body.put("startTime", execution.getStartTime() == null ? null : execution.getStartTime().getTime());
+            body.put("endTime", execution.getEndTime() == null ? null : execution.getEndTime().getTime());
+            return Response.ok(body).build();
+        } catch (NoSuchJobExecutionException e) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+    }
+
+    private Response badRequest(IllegalArgumentException e) {
+        return Response.status(Response.Status.BAD_REQUEST)
+            .entity(Map.of("message", e.getMessage()))
+            .build();
+    }
+
+    /**
+     * ETag fuerte derivado de la versión JPA: cambia exactamente cuando cambia el proyecto.
+     */
+    private static EntityTag etagOf(Long version) {
+        return new EntityTag(String.valueOf(version));
+    }
+
+    /**
+     * Versión esperada a partir de If-Match: "3" -> 3. Vacío si no hay cabecera, es "*" o no es un ETag nuestro
+     * (If-Match usa comparación fuerte: un ETag débil W/"3" tampoco vale).
+     */
+    private static Optional<Long> versionOf(String ifMatch) {
+        if (ifMatch == null) {
+            return Optional.empty();
+        }
+        String value = ifMatch.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
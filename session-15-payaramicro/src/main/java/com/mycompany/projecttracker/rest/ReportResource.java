@@ -1,39 +1,189 @@
 package com.mycompany.projecttracker.rest;
 
+import com.mycompany.projecttracker.model.ProjectReportDTO;
+import com.mycompany.projecttracker.rest.interceptor.Compress;
 import com.mycompany.projecttracker.service.ReportService;
+import com.mycompany.projecttracker.service.TaskExportService;
+import com.mycompany.projecttracker.service.report.ReportAdmissionController.Lane;
+import com.mycompany.projecttracker.service.report.ReportJob;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
+import jakarta.json.bind.Jsonb;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Path("/reports")
+@Produces(MediaType.APPLICATION_JSON)
 public class ReportResource {
 
+    // Límite para la espera larga (long-polling) de GET /jobs/{id}/result?wait=N
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    // Sugerencia al cliente para reintentar cuando rechazamos por saturación (503)
+    private static final int RETRY_AFTER_SECONDS = 5;
+
     @Inject
     private ReportService reportService;
 
+    @Inject
+    private Jsonb jsonb;
+
+    @Inject
+    private TaskExportService exportService;
+
+    @Context
+    private UriInfo uriInfo;
+
+    /**
+     * Solicita un reporte. Responde 202 con el ID del job y la URL para consultarlo.
+     * POST /resources/reports/{projectId}
+     */
     @POST
     @Path("/{projectId}")
     @RolesAllowed({"ADMIN", "USER"}) // Ambos roles pueden pedir reportes
-    @Produces(MediaType.APPLICATION_JSON)
     public Response requestReport(@PathParam("projectId") Long projectId, @Context SecurityContext securityContext) {
 
         String username = securityContext.getUserPrincipal().getName();
+        Lane lane = securityContext.isUserInRole("ADMIN") ? Lane.ADMIN : Lane.USER;
 
-        // Llamamos al servicio asíncrono.
-        // NO esperamos a que termine (no usamos .get() ni .join()).
-        reportService.generateReportAsync(projectId, username);
+        try {
+            // Llamamos al servicio asíncrono.
+            // NO esperamos a que termine: solo registramos el job.
+            ReportJob job = reportService.requestReport(projectId, username, lane);
 
-        // Respondemos inmediatamente al usuario, en formato JSON
-        var response = Json.createObjectBuilder()
-            .add("status","Reporte solicitado. Procesando en segundo plano.")
-            .build();
-        return Response.accepted()
-            .entity(response)
+            URI location = uriInfo.getBaseUriBuilder()
+                .path(ReportResource.class)
+                .path("jobs/{jobId}")
+                .build(job.getId());
+
+            return Response.accepted(job.toDTO())
+                .location(location)
+                .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        } catch (RejectedExecutionException e) {
+            // Sin capacidad: mejor rechazar rápido que encolar sin límite
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .entity(Map.of("message", e.getMessage()))
+                .build();
+        }
+    }
+
+    /**
+     * Estado del job: RUNNING, COMPLETED o FAILED.
+     * GET /resources/reports/jobs/{jobId}
+     */
+    @GET
+    @Path("/jobs/{jobId}")
+    @RolesAllowed({"ADMIN", "USER"})
+    public Response getJob(@PathParam("jobId") String jobId, @Context SecurityContext securityContext) {
+        return reportService.findJob(jobId)
+            .filter(job -> canRead(job, securityContext))
+            .map(job -> Response.ok(job.toDTO()).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Resultado del job.
+     * - Si está listo: 200 y el JSON se escribe directamente en el stream de salida.
+     * - Si sigue corriendo: 202 con el estado, o espera hasta 'wait' segundos (long-polling).
+     * GET /resources/reports/jobs/{jobId}/result?wait=10
+     */
+    @GET
+    @Path("/jobs/{jobId}/result")
+    @RolesAllowed({"ADMIN", "USER"})
+    @Compress
+    public void getResult(@PathParam("jobId") String jobId,
+                          @QueryParam("wait") @DefaultValue("0") int waitSeconds,
+                          @Context SecurityContext securityContext,
+                          @Suspended AsyncResponse asyncResponse) {
+
+        ReportJob job = reportService.findJob(jobId)
+            .filter(candidate -> canRead(candidate, securityContext))
+            .orElse(null);
+        if (job == null) {
+            asyncResponse.resume(Response.status(Response.Status.NOT_FOUND).build());
+            return;
+        }
+
+        if (job.getStatus() != ReportJob.Status.RUNNING || waitSeconds <= 0) {
+            asyncResponse.resume(toResultResponse(job));
+            return;
+        }
+
+        // Liberamos el hilo HTTP: respondemos cuando el job termine o venza la espera
+        asyncResponse.setTimeout(Math.min(waitSeconds, MAX_WAIT_SECONDS), TimeUnit.SECONDS);
+        asyncResponse.setTimeoutHandler(response -> response.resume(toResultResponse(job)));
+        job.getFuture().whenComplete((result, error) -> asyncResponse.resume(toResultResponse(job)));
+    }
+
+    /**
+     * Un job solo lo ve quien lo pidió (o un ADMIN). Para los demás es un 404:
+     * ni siquiera confirmamos que el ID exista.
+     */
+    private static boolean canRead(ReportJob job, SecurityContext securityContext) {
+        return securityContext.isUserInRole("ADMIN")
+            || job.getRequestedBy().equals(securityContext.getUserPrincipal().getName());
+    }
+
+    private Response toResultResponse(ReportJob job) {
+        return switch (job.getStatus()) {
+            case RUNNING -> Response.accepted(job.toDTO()).build();
+            case FAILED -> Response.serverError().entity(job.toDTO()).build();
+            case COMPLETED -> {
+                ProjectReportDTO result = job.getResultNow();
+                StreamingOutput stream = output -> jsonb.toJson(result, output);
+                yield Response.ok(stream, MediaType.APPLICATION_JSON).build();
+            }
+        };
+    }
+
+    /**
+     * Exporta las tareas del proyecto en CSV, en streaming.
+     * GET /resources/reports/{projectId}/tasks.csv
+     */
+    @GET
+    @Path("/{projectId}/tasks.csv")
+    @RolesAllowed({"ADMIN", "USER"})
+    @Produces("text/csv")
+    @Compress
+    public Response exportTasksCsv(@PathParam("projectId") Long projectId) {
+        if (!reportService.projectExists(projectId)) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        StreamingOutput stream = output -> exportService.exportCsv(projectId, output);
+        return Response.ok(stream)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"project-" + projectId + "-tasks.csv\"")
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Exporta las tareas del proyecto en NDJSON (un objeto JSON por línea), en streaming.
+     * GET /resources/reports/{projectId}/tasks.ndjson
+     */
+    @GET
+    @Path("/{projectId}/tasks.ndjson")
+    @RolesAllowed({"ADMIN", "USER"})
+    @Produces("application/x-ndjson")
+    @Compress
+    public Response exportTasksNdjson(@PathParam("projectId") Long projectId) {
+        if (!reportService.projectExists(projectId)) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        StreamingOutput stream = output -> exportService.exportNdjson(projectId, output);
+        return Response.ok(stream).build();
+    }
+}
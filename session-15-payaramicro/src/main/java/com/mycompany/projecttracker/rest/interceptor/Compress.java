@@ -0,0 +1,19 @@
+package com.mycompany.projecttracker.rest.interceptor;
+
+import jakarta.ws.rs.NameBinding;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marca los endpoints cuya respuesta se comprime con gzip (ver GzipWriterInterceptor).
+ * Lo aplicamos solo donde compensa: listados y exportaciones grandes y repetitivas.
+ */
+@NameBinding
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Compress {
+}
@@ -0,0 +1,167 @@
+package com.mycompany.projecttracker.rest.interceptor;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Comprime con gzip las respuestas de los endpoints marcados con @Compress,
+ * si el cliente lo acepta (Accept-Encoding: gzip).
+ *
+ * Las respuestas pequeñas no compensan: se acumulan los primeros 'compression.min-size'
+ * bytes y solo si se supera ese tamaño se activa la compresión.
+ */
+@Provider
+@Compress
+@Priority(Priorities.ENTITY_CODER)
+public class GzipWriterInterceptor implements WriterInterceptor {
+
+    public static final String GZIP = "gzip";
+
+    private final int minSize = ConfigProvider.getConfig()
+        .getOptionalValue("compression.min-size", Integer.class)
+        .orElse(1024);
+
+    @Context
+    private HttpHeaders requestHeaders;
+
+    /**
+     * ¿Acepta el cliente gzip? Se respetan los valores q (RFC 9110): "gzip;q=0" es un rechazo
+     * explícito, y "*" cubre gzip solo si gzip no aparece por su nombre.
+     */
+    public static boolean acceptsGzip(HttpHeaders headers) {
+        String acceptEncoding = headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double wildcardQ = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+                gzipQ = quality(parts);
+            } else if (coding.equals("*")) {
+                wildcardQ = quality(parts);
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return wildcardQ != null && wildcardQ > 0;
+    }
+
+    // Valor q del token (1 si no lo indica; 0 si no se puede leer)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.startsWith("q=") || param.startsWith("Q="))) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        // Sin soporte del cliente, o el cuerpo ya viene comprimido (ej. caché de ProjectListCache)
+        if (!acceptsGzip(requestHeaders) || context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            context.proceed();
+            return;
+        }
+
+        context.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ThresholdGzipOutputStream output = new ThresholdGzipOutputStream(context.getOutputStream(), minSize, () -> {
+            // Aún no se ha escrito nada al cliente: podemos cambiar las cabeceras
+            context.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+        });
+        context.setOutputStream(output);
+        try {
+            context.proceed();
+        } finally {
+            output.finish();
+        }
+    }
+
+    /**
+     * Acumula hasta 'threshold' bytes; si se supera, pasa a gzip. Si no, escribe el original tal cual.
+     */
+    private static final class ThresholdGzipOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private final int threshold;
+        private final Runnable onCompress;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private GZIPOutputStream gzip;
+        private boolean finished;
+
+        ThresholdGzipOutputStream(OutputStream target, int threshold, Runnable onCompress) {
+            this.target = target;
+            this.threshold = threshold;
+            this.onCompress = onCompress;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (gzip != null) {
+                gzip.write(bytes, offset, length);
+                return;
+            }
+            buffer.write(bytes, offset, length);
+            if (buffer.size() >= threshold) {
+                onCompress.run();
+                // syncFlush=true: flush() empuja lo comprimido hasta ahora (útil en exportaciones en streaming)
+                gzip = new GZIPOutputStream(target, 8192, true);
+                buffer.writeTo(gzip);
+                buffer = null;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Mientras acumulamos todavía no sabemos si comprimir: no hay nada que enviar
+            if (gzip != null) {
+                gzip.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (gzip != null) {
+                gzip.finish();
+            } else {
+                buffer.writeTo(target);
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mycompany.projecttracker.rest.mapper;
+
+import jakarta.persistence.OptimisticLockException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import java.util.Map;
+
+/**
+ * Otro cliente modificó el recurso entre la lectura y la escritura (versión distinta).
+ * Respondemos 412 Precondition Failed: el cliente debe releerlo (nuevo ETag) y reintentar.
+ */
+@Provider
+public class OptimisticLockExceptionMapper implements ExceptionMapper<OptimisticLockException> {
+
+    @Override
+    public Response toResponse(OptimisticLockException exception) {
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+            .entity(Map.of("message", "El recurso fue modificado por otra petición. Vuelva a leerlo e inténtelo de nuevo."))
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.projecttracker.security;
 
+import com.mycompany.projecttracker.metrics.Instrumented;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -11,11 +12,35 @@ import java.util.Date;
 import java.util.Set;
 
 @ApplicationScoped
+@Instrumented(layer = "security")
 public class TokenService {
 
     // En producción, esta clave debe estar en una variable de entorno o vault
     private static final String SECRET_KEY = "MiSuperSecretoParaFirmarTokensJWT_DebeSerLargo";
-    private final SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+
+    // Se deriva la primera vez que se usa (o en el calentamiento, ver WarmupService), no al crear el bean
+    private volatile SecretKey key;
+
+    private SecretKey key() {
+        SecretKey current = key;
+        if (current == null) {
+            synchronized (this) {
+                if (key == null) {
+                    key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+                }
+                current = key;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Deriva la clave y firma/valida un token de prueba: carga las clases de JJWT
+     * y su serializador JSON antes de que llegue el primer login.
+     */
+    public void warmUp() {
+        validateTokenAndGetUser(generateToken("warmup", Set.of()));
+    }
 
     /**
      * Genera un JWT firmado con roles y expiración (1 hora).
@@ -26,7 +51,7 @@ public class TokenService {
             .claim("groups", roles)
             .issuedAt(new Date())
             .expiration(new Date(System.currentTimeMillis() + 3600000)) // 1 hora
-            .signWith(key)
+            .signWith(key())
             .compact();
     }
 
@@ -36,7 +61,7 @@ public class TokenService {
      */
     public String validateTokenAndGetUser(String token) {
         Claims claims = Jwts.parser()
-            .verifyWith(key)
+            .verifyWith(key())
             .build()
             .parseSignedClaims(token)
             .getPayload();
@@ -48,7 +73,7 @@ public class TokenService {
      */
     public Set<String> getRoles(String token) {
         Claims claims = Jwts.parser()
-            .verifyWith(key)
+            .verifyWith(key())
             .build()
             .parseSignedClaims(token)
             .getPayload();
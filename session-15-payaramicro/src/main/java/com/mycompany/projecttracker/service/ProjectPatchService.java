@@ -0,0 +1,330 @@
+package com.mycompany.projecttracker.service;
+
+import com.mycompany.projecttracker.entity.Project;
+import com.mycompany.projecttracker.entity.Task;
+import com.mycompany.projecttracker.event.ProjectDeletedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import com.mycompany.projecttracker.event.TaskDeletedEvent;
+import com.mycompany.projecttracker.event.TaskUpdatedEvent;
+import com.mycompany.projecttracker.metrics.Instrumented;
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.TaskDTO;
+import com.mycompany.projecttracker.service.stats.ProjectTaskStatsService;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.Transactional;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.sessions.IdentityMapAccessor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Modificaciones parciales (JSON Merge Patch, RFC 7396) y borrados de proyectos y tareas.
+ *
+ * En lugar de cargar la entidad (un Project trae todas sus tareas, EAGER), modificarla y
+ * dejar que JPA genere el UPDATE, se envía un único UPDATE con solo las columnas que cambian.
+ * Con RETURNING (PostgreSQL) la misma sentencia devuelve la fila ya actualizada: un solo viaje.
+ *
+ * Como estas sentencias no pasan por el contexto de persistencia, invalidamos a mano
+ * la caché L2 de EclipseLink (ver invalidate()), una vez confirmada la transacción.
+ */
+@ApplicationScoped
+@Instrumented(layer = "service")
+@Transactional
+public class ProjectPatchService {
+
+    /**
+     * Campos modificables con PATCH y su columna. Lista cerrada: nunca concatenamos
+     * nombres enviados por el cliente en el SQL.
+     */
+    private static final Map<String, String> PROJECT_COLUMNS = Map.of(
+        "name", "NAME",
+        "description", "DESCRIPTION",
+        "status", "STATUS"
+    );
+
+    private static final Map<String, String> TASK_COLUMNS = Map.of(
+        "title", "TITLE",
+        "status", "STATUS"
+    );
+
+    @PersistenceContext(unitName = "project-tracker-pu")
+    private EntityManager em;
+
+    @Resource
+    private TransactionSynchronizationRegistry txRegistry;
+
+    @Inject
+    private ProjectService projectService;
+
+    @Inject
+    private ProjectTaskStatsService statsService;
+
+    @Inject
+    private Event<ProjectUpdatedEvent> projectUpdatedEvent;
+
+    @Inject
+    private Event<ProjectDeletedEvent> projectDeletedEvent;
+
+    @Inject
+    private Event<TaskUpdatedEvent> taskUpdatedEvent;
+
+    @Inject
+    private Event<TaskDeletedEvent> taskDeletedEvent;
+
+    /**
+     * Aplica un Merge Patch al proyecto. Ej: {"status": "Cerrado"} solo actualiza STATUS.
+     * Si 'expectedVersion' no es null, solo se actualiza si el proyecto sigue en esa versión
+     * (si no, OptimisticLockException). Lanza IllegalArgumentException si el patch no es válido.
+     */
+    public Optional<ProjectDTO> patchProject(Long id, JsonObject patch, Long expectedVersion) {
+        Map<String, String> changes = readChanges(patch, PROJECT_COLUMNS);
+        requireLength(changes, "name", 3, 100, false);
+        requireLength(changes, "description", 0, 5000, true);
+        requireLength(changes, "status", 0, 20, true);
+
+        if (changes.isEmpty()) {
+            return projectService.findById(id); // Patch vacío: nada que cambiar
+        }
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("UPDATE PROJECT SET ");
+        appendSet(sql, params, changes, PROJECT_COLUMNS);
+        sql.append("VERSION = VERSION + 1 WHERE ID = ?").append(add(params, id));
+        if (expectedVersion != null) {
+            sql.append(" AND VERSION = ?").append(add(params, expectedVersion));
+        }
+        sql.append(" RETURNING ID, NAME, DESCRIPTION, STATUS, VERSION");
+
+        List<Object[]> rows = nativeQuery(sql, params).getResultList();
+        if (rows.isEmpty()) {
+            // No existe, o existe pero en otra versión
+            if (expectedVersion != null && projectService.findVersion(id).isPresent()) {
+                throw new OptimisticLockException("El proyecto " + id + " ya no está en la versión " + expectedVersion);
+            }
+            return Optional.empty();
+        }
+        invalidate(Project.class, id);
+
+        Object[] row = rows.get(0);
+        ProjectDTO updated = new ProjectDTO(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+            (String) row[3], ((Number) row[4]).longValue());
+        projectUpdatedEvent.fire(new ProjectUpdatedEvent(updated));
+        return Optional.of(updated);
+    }
+
+    /**
+     * Aplica un Merge Patch a una tarea del proyecto. Ej: {"status": "Hecha"}.
+     * Si cambia el estado, también se actualiza el resumen PROJECT_TASK_STATS.
+     */
+    public Optional<TaskDTO> patchTask(Long projectId, Long taskId, JsonObject patch) {
+        Map<String, String> changes = readChanges(patch, TASK_COLUMNS);
+        requireLength(changes, "title", 1, 255, false);
+        requireLength(changes, "status", 0, 255, true);
+
+        if (changes.isEmpty()) {
+            return em.createQuery(
+                    "SELECT NEW com.mycompany.projecttracker.model.TaskDTO(t.id, t.title, t.status) " +
+                    "FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId", TaskDTO.class)
+                .setParameter("taskId", taskId)
+                .setParameter("projectId", projectId)
+                .getResultStream()
+                .findFirst();
+        }
+
+        // La CTE bloquea la fila y nos da el estado anterior (para el resumen) en la misma sentencia
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("WITH old AS (SELECT ID, STATUS FROM TASK WHERE ID = ?")
+            .append(add(params, taskId))
+            .append(" AND PROJECT_ID = ?").append(add(params, projectId))
+            .append(" FOR UPDATE) UPDATE TASK t SET ");
+        appendSet(sql, params, changes, TASK_COLUMNS);
+        sql.append("VERSION = t.VERSION + 1 FROM old WHERE t.ID = old.ID")
+            .append(" RETURNING t.ID, t.TITLE, t.STATUS, old.STATUS");
+
+        List<Object[]> rows = nativeQuery(sql, params).getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        TaskDTO updated = new TaskDTO(((Number) row[0]).longValue(), (String) row[1], (String) row[2]);
+
+        if (changes.containsKey("status")) {
+            statsService.statusChanged(projectId, (String) row[3], updated.status(), 1);
+        }
+        invalidate(Task.class, taskId);
+        invalidate(Project.class, projectId); // Su lista de tareas (EAGER) también está en caché
+
+        taskUpdatedEvent.fire(new TaskUpdatedEvent(projectId, updated));
+        return Optional.of(updated);
+    }
+
+    /**
+     * Borra el proyecto, sus tareas y su resumen, sin cargarlos.
+     * Devuelve false si no existe; OptimisticLockException si no está en 'expectedVersion'.
+     */
+    public boolean deleteProject(Long id, Long expectedVersion) {
+        em.createQuery("DELETE FROM Task t WHERE t.project.id = :id")
+            .setParameter("id", id)
+            .executeUpdate();
+        statsService.projectDeleted(id);
+
+        Query delete = em.createQuery("DELETE FROM Project p WHERE p.id = :id"
+                + (expectedVersion != null ? " AND p.version = :version" : ""))
+            .setParameter("id", id);
+        if (expectedVersion != null) {
+            delete.setParameter("version", expectedVersion);
+        }
+        if (delete.executeUpdate() == 0) {
+            if (expectedVersion != null && projectService.findVersion(id).isPresent()) {
+                // Deshace también el borrado de las tareas (excepción no comprobada = rollback)
+                throw new OptimisticLockException("El proyecto " + id + " ya no está en la versión " + expectedVersion);
+            }
+            return false;
+        }
+        invalidate(Project.class, id);
+        invalidateQueries(Task.class);
+
+        projectDeletedEvent.fire(new ProjectDeletedEvent(id));
+        return true;
+    }
+
+    /**
+     * Borra una tarea del proyecto. Devuelve false si no existe.
+     */
+    public boolean deleteTask(Long projectId, Long taskId) {
+        List<Object> rows = em.createNativeQuery(
+                "DELETE FROM TASK WHERE ID = ?1 AND PROJECT_ID = ?2 RETURNING STATUS")
+            .setParameter(1, taskId)
+            .setParameter(2, projectId)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return false;
+        }
+        statsService.taskDeleted(projectId, (String) rows.get(0));
+        invalidate(Task.class, taskId);
+        invalidate(Project.class, projectId);
+
+        taskDeletedEvent.fire(new TaskDeletedEvent(projectId, taskId));
+        return true;
+    }
+
+    /**
+     * Convierte el Merge Patch en campo -> nuevo valor (null = borrar el valor).
+     */
+    private static Map<String, String> readChanges(JsonObject patch, Map<String, String> columns) {
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonValue> entry : patch.entrySet()) {
+            String field = entry.getKey();
+            if (!columns.containsKey(field)) {
+                throw new IllegalArgumentException("Campo no modificable: " + field + ". Permitidos: " + columns.keySet());
+            }
+            JsonValue value = entry.getValue();
+            if (value.getValueType() == JsonValue.ValueType.NULL) {
+                changes.put(field, null);
+            } else if (value instanceof JsonString text) {
+                changes.put(field, text.getString());
+            } else {
+                throw new IllegalArgumentException("El campo '" + field + "' debe ser texto o null");
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Las mismas reglas que Jakarta Validation aplica al DTO completo (@NotNull, @Size).
+     */
+    private static void requireLength(Map<String, String> changes, String field, int min, int max, boolean nullable) {
+        if (!changes.containsKey(field)) {
+            return;
+        }
+        String value = changes.get(field);
+        if (value == null) {
+            if (!nullable) {
+                throw new IllegalArgumentException("El campo '" + field + "' no puede ser nulo");
+            }
+            return;
+        }
+        if (value.length() < min || value.length() > max) {
+            throw new IllegalArgumentException("El campo '" + field + "' debe tener entre " + min + " y " + max + " caracteres");
+        }
+    }
+
+    private static void appendSet(StringBuilder sql, List<Object> params, Map<String, String> changes,
+                                  Map<String, String> columns) {
+        changes.forEach((field, value) ->
+            sql.append(columns.get(field)).append(" = ?").append(add(params, value)).append(", "));
+    }
+
+    // Añade el parámetro y devuelve su posición (?1, ?2, ...)
+    private static int add(List<Object> params, Object value) {
+        params.add(value);
+        return params.size();
+    }
+
+    private Query nativeQuery(StringBuilder sql, List<Object> params) {
+        Query query = em.createNativeQuery(sql.toString());
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+        return query;
+    }
+
+    /**
+     * Invalida el objeto en la caché L2 (también en los demás nodos del cluster)
+     * y las cachés de resultados de consultas sobre esa entidad (ej. Project.FIND_BY_STATUS).
+     */
+    private void invalidate(Class<?> type, Long id) {
+        IdentityMapAccessor cache = identityMaps();
+        afterCommit(() -> {
+            cache.invalidateObject(id, type, true);
+            cache.invalidateQueryCache(type);
+        });
+    }
+
+    private void invalidateQueries(Class<?> type) {
+        IdentityMapAccessor cache = identityMaps();
+        afterCommit(() -> cache.invalidateQueryCache(type));
+    }
+
+    private IdentityMapAccessor identityMaps() {
+        return em.unwrap(JpaEntityManager.class).getServerSession().getIdentityMapAccessor();
+    }
+
+    /**
+     * Ejecuta la acción solo si la transacción se confirma, y después del COMMIT.
+     * Si invalidáramos antes, una lectura concurrente podría volver a cargar en la caché
+     * la fila antigua (aún confirmada) y servirla hasta que caduque, incluso con el ETag
+     * nuevo, que se lee de la base de datos (ProjectService.findVersion).
+     */
+    private void afterCommit(Runnable action) {
+        txRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
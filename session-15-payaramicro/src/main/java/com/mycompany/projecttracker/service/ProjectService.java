@@ -4,32 +4,55 @@ import com.mycompany.projecttracker.entity.AuditInfo;
 import com.mycompany.projecttracker.entity.Project;
 import com.mycompany.projecttracker.entity.Task;
 import com.mycompany.projecttracker.event.ProjectCreatedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import com.mycompany.projecttracker.event.TaskCreatedEvent;
 import com.mycompany.projecttracker.mapper.ProjectMapper;
+import com.mycompany.projecttracker.metrics.Instrumented;
 import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.ProjectStatsDTO;
+import com.mycompany.projecttracker.model.ProjectSummary;
 import com.mycompany.projecttracker.model.TaskDTO;
 import com.mycompany.projecttracker.repository.ProjectRepository;
-import jakarta.annotation.Resource;
+import com.mycompany.projecttracker.service.stats.ProjectTaskStatsService;
+import jakarta.data.Limit;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
-import jakarta.jms.JMSContext;
-import jakarta.jms.Queue;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 @ApplicationScoped
+@Instrumented(layer = "service")
 @Transactional
 public class ProjectService {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectService.class.getName());
 
+    /**
+     * Campos que se pueden pedir con ?fields=... y su expresión JPQL.
+     * Al ser una lista cerrada, nunca concatenamos texto del cliente en la consulta.
+     */
+    private static final Map<String, String> SELECTABLE_FIELDS = Map.of(
+        "id", "p.id",
+        "name", "p.name",
+        "description", "p.description",
+        "status", "p.status",
+        "deadline", "p.deadline"
+    );
+
     @Inject
     private ProjectRepository repository;
 
@@ -37,8 +60,8 @@ public class ProjectService {
     private ProjectMapper mapper;
 
     @Inject
-    private JMSContext jmsContext;
- 
+    private ProjectTaskStatsService statsService;
+
 
     @PersistenceContext(unitName = "project-tracker-pu")
     private EntityManager em;
@@ -47,10 +70,96 @@ public class ProjectService {
     @Inject
     private Event<ProjectCreatedEvent> projectEvent;
 
-    public List<ProjectDTO> findAll() {
-        return repository.findAll()
-            .map(mapper::toDTO)
-            .collect(Collectors.toList());
+    @Inject
+    private Event<ProjectUpdatedEvent> projectUpdatedEvent;
+
+    @Inject
+    private Event<TaskCreatedEvent> taskEvent;
+
+    /**
+     * Listado completo como proyección (ProjectSummary): sin entidades ni descripciones.
+     */
+    public List<ProjectSummary> findAll() {
+        return repository.findAllSummaries();
+    }
+
+    /**
+     * Hasta 'size' resúmenes a continuación del cursor 'afterId' (0 = desde el principio).
+     */
+    public List<ProjectSummary> findPage(long afterId, int size) {
+        return repository.findSummariesAfter(afterId, Limit.of(size));
+    }
+
+    /**
+     * Listado con "sparse fieldset": solo se seleccionan las columnas pedidas.
+     * Ej: fields = "id,name,description"
+     * Lanza IllegalArgumentException si se pide un campo desconocido.
+     */
+    public List<Map<String, Object>> findAllFields(String fields, String status) {
+        Set<String> selected = parseFields(fields);
+        boolean byStatus = status != null && !status.isBlank();
+
+        TypedQuery<Tuple> query = em.createQuery(
+            selectClause(selected) + " FROM Project p" + (byStatus ? " WHERE p.status = :status" : "") + " ORDER BY p.id",
+            Tuple.class);
+        if (byStatus) {
+            query.setParameter("status", status);
+        }
+        return query.getResultStream()
+            .map(tuple -> toMap(tuple, selected))
+            .toList();
+    }
+
+    /**
+     * Un proyecto con solo los campos pedidos.
+     */
+    public Optional<Map<String, Object>> findFieldsById(Long id, String fields) {
+        Set<String> selected = parseFields(fields);
+        return em.createQuery(selectClause(selected) + " FROM Project p WHERE p.id = :id", Tuple.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(tuple -> toMap(tuple, selected));
+    }
+
+    private Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!SELECTABLE_FIELDS.containsKey(name)) {
+                throw new IllegalArgumentException("Campo desconocido: " + name + ". Permitidos: " + SELECTABLE_FIELDS.keySet());
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un campo en 'fields'");
+        }
+        return selected;
+    }
+
+    private static String selectClause(Set<String> selected) {
+        return "SELECT " + String.join(", ", selected.stream()
+            .map(name -> SELECTABLE_FIELDS.get(name) + " AS " + name)
+            .toList());
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, Set<String> selected) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String name : selected) {
+            row.put(name, tuple.get(name));
+        }
+        return row;
+    }
+
+    /**
+     * Solo la versión del proyecto (para ETag / If-None-Match).
+     * Consulta escalar: no carga la entidad ni sus tareas EAGER.
+     */
+    public Optional<Long> findVersion(Long id) {
+        return repository.findVersionById(id);
     }
 
     public Optional<ProjectDTO> findById(Long id) {
@@ -58,13 +167,33 @@ public class ProjectService {
             .map(mapper::toDTO);
     }
 
-    public List<ProjectDTO> findByStatus(String status) {
-        return repository.findByStatus(status).stream()
-            .map(mapper::toDTO)
-            .collect(Collectors.toList());
+    public List<ProjectSummary> findByStatus(String status) {
+        // Como @NamedQuery (y no en ProjectRepository) para poder activar
+        // la caché de resultados de EclipseLink (ver Project).
+        return em.createNamedQuery(Project.FIND_BY_STATUS, ProjectSummary.class)
+            .setParameter("status", status)
+            .getResultList();
+    }
+
+    /**
+     * Estadísticas de tareas del proyecto, leídas de la tabla resumen (sin recorrer TASK).
+     */
+    public Optional<ProjectStatsDTO> getStats(Long id) {
+        ProjectStatsDTO stats = statsService.getStats(id);
+        if (stats.tasksByStatus().isEmpty() && repository.findNameById(id).isEmpty()) {
+            return Optional.empty(); // Ni tareas ni proyecto: 404
+        }
+        return Optional.of(stats);
     }
 
     public ProjectDTO create(ProjectDTO projectRequest) {
+        return create(projectRequest, null);
+    }
+
+    /**
+     * Igual que create(), indicando qué cliente del dashboard lo pidió (ver ProjectCreatedEvent).
+     */
+    public ProjectDTO create(ProjectDTO projectRequest, String originClientId) {
         // ... (lógica de mapeo y guardado en repository) ...
         Project newEntity = mapper.toEntity(projectRequest);
         newEntity.setStatus("Nuevo");
@@ -77,7 +206,7 @@ public class ProjectService {
         // 2. ¡DISPARAMOS EL EVENTO!
         // Esto notificará a cualquier @Observes en la aplicación de forma síncrona
         // (o asíncrona si usamos fireAsync, pero usaremos fire() por simplicidad).
-        projectEvent.fire(new ProjectCreatedEvent(createdDto));
+        projectEvent.fire(new ProjectCreatedEvent(createdDto, originClientId));
 
         LOGGER.info("--> Evento CDI disparado para Proyecto ID: " + createdDto.id());
 
@@ -85,7 +214,33 @@ public class ProjectService {
     }
 
     /**
-     * Crea una tarea asociada a un proyecto y notifica por JMS.
+     * Reemplaza nombre, descripción y estado de un proyecto.
+     * Si 'expectedVersion' no es null, solo se actualiza si el proyecto sigue en esa versión.
+     * Lanza OptimisticLockException si la versión no coincide (o si otro cambio gana la carrera).
+     */
+    public Optional<ProjectDTO> update(Long id, ProjectDTO changes, Long expectedVersion) {
+        Project project = em.find(Project.class, id);
+        if (project == null) {
+            return Optional.empty();
+        }
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new OptimisticLockException(project);
+        }
+
+        project.setName(changes.name());
+        project.setDescription(changes.description());
+        if (changes.status() != null) {
+            project.setStatus(changes.status());
+        }
+        em.flush(); // Ejecuta el UPDATE ya: obtenemos la nueva versión (y el conflicto, si lo hay)
+
+        ProjectDTO updatedDto = mapper.toDTO(project);
+        projectUpdatedEvent.fire(new ProjectUpdatedEvent(updatedDto));
+        return Optional.of(updatedDto);
+    }
+
+    /**
+     * Crea una tarea asociada a un proyecto y la notifica con un evento CDI.
      */
     public TaskDTO createTask(Long projectId, TaskDTO taskDto) {
         // A. Buscar el proyecto (usando repository)
@@ -102,12 +257,16 @@ public class ProjectService {
 
         project.addTask(newTask);
 
+        // Con IDs de secuencia, persist() ya asigna el ID: no hace falta em.flush().
+        // El INSERT se envía al confirmar la transacción (agrupado con los demás).
         em.persist(newTask);
-        em.flush(); 
-        
 
-        LOGGER.info("--> JMS: Mensaje enviado a la cola para la tarea " + newTask.getId());
+        // Actualizamos el resumen en la misma transacción
+        statsService.taskCreated(projectId, newTask.getStatus());
+
 
-        return new TaskDTO(newTask.getId(), newTask.getTitle(), newTask.getStatus());
+        TaskDTO createdDto = new TaskDTO(newTask.getId(), newTask.getTitle(), newTask.getStatus());
+        taskEvent.fire(new TaskCreatedEvent(projectId, createdDto));
+        return createdDto;
     }
 }
\ No newline at end of file
@@ -1,46 +1,82 @@
 package com.mycompany.projecttracker.service;
 
-import jakarta.annotation.Resource;
-import jakarta.enterprise.concurrent.ManagedExecutorService;
+import com.mycompany.projecttracker.metrics.Instrumented;
+import com.mycompany.projecttracker.model.ProjectReportDTO;
+import com.mycompany.projecttracker.model.ProjectStatsDTO;
+import com.mycompany.projecttracker.repository.ProjectRepository;
+import com.mycompany.projecttracker.service.report.ReportAdmissionController;
+import com.mycompany.projecttracker.service.report.ReportAdmissionController.Lane;
+import com.mycompany.projecttracker.service.report.ReportJob;
+import com.mycompany.projecttracker.service.report.ReportJobRegistry;
+import com.mycompany.projecttracker.service.stats.ProjectTaskStatsService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 @ApplicationScoped
+@Instrumented(layer = "report")
 public class ReportService {
 
     private static final Logger logger = Logger.getLogger(ReportService.class.getName());
 
-    // Inyectamos el ejecutor que definimos en el Paso 1
-    @Resource(lookup = "java:app/concurrent/VirtualExecutor")
-    private ManagedExecutorService executor;
+    // Delante del ejecutor virtual: cola acotada, prioridades y tope por usuario
+    @Inject
+    private ReportAdmissionController admissionController;
+
+    @Inject
+    private ProjectRepository projectRepository;
+
+    @Inject
+    private ProjectTaskStatsService statsService;
+
+    @Inject
+    private ReportJobRegistry jobRegistry;
 
     /**
-     * Inicia la generación del reporte de forma asíncrona.
-     * Retorna un CompletableFuture para que quien llame pueda saber cuándo terminó (si quisiera).
+     * Registra un job de reporte para el proyecto (o reutiliza uno equivalente reciente).
+     * Lanza IllegalArgumentException si el proyecto no existe
+     * y RejectedExecutionException si no hay capacidad para admitirlo.
      */
-    public CompletableFuture<Void> generateReportAsync(Long projectId, String userInitiator) {
+    public ReportJob requestReport(Long projectId, String userInitiator, Lane lane) {
+        String projectName = projectRepository.findNameById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Proyecto no encontrado: " + projectId));
 
-        // CompletableFuture.runAsync envía la tarea al ejecutor
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // 1. Simular trabajo pesado (5 segundos)
-                logger.info("--> Iniciando reporte para Proyecto ID: " + projectId + " solicitado por: " + userInitiator);
+        return jobRegistry.submit(projectId, userInitiator,
+            () -> generateReportAsync(projectId, projectName, userInitiator, lane));
+    }
+
+    public boolean projectExists(Long projectId) {
+        return projectRepository.findNameById(projectId).isPresent();
+    }
+
+    public Optional<ReportJob> findJob(String jobId) {
+        return jobRegistry.find(jobId);
+    }
+
+    /**
+     * Inicia la generación del reporte de forma asíncrona.
+     * Retorna un CompletableFuture con el resultado, que el registro de jobs conserva.
+     */
+    public CompletableFuture<ProjectReportDTO> generateReportAsync(Long projectId, String projectName, String userInitiator, Lane lane) {
 
-                // Imprimimos el nombre del hilo para verificar que es VIRTUAL
-                logger.info("--> Corriendo en Hilo: " + Thread.currentThread());
+        // El controlador de admisión envía la tarea al ejecutor virtual (o la encola)
+        return admissionController.submit(lane, userInitiator, () -> {
+            logger.info("--> Iniciando reporte para Proyecto ID: " + projectId + " solicitado por: " + userInitiator);
 
-                Thread.sleep(5000);
+            // Imprimimos el nombre del hilo para verificar que es VIRTUAL
+            logger.info("--> Corriendo en Hilo: " + Thread.currentThread());
 
-                // 2. Finalizar
-                logger.info("--> Reporte finalizado para Proyecto ID: " + projectId);
+            // 1. Agregados precalculados en la tabla resumen (sin recorrer TASK)
+            ProjectStatsDTO stats = statsService.getStats(projectId);
 
-                // (Aquí podrías guardar un registro en BBDD, enviar un email, etc.)
+            // 2. Finalizar
+            logger.info("--> Reporte finalizado para Proyecto ID: " + projectId);
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.severe("--> Reporte interrumpido");
-            }
-        }, executor); // <--- ¡Importante pasarle nuestro executor virtual!
+            return new ProjectReportDTO(projectId, projectName, stats.totalTasks(), stats.tasksByStatus(),
+                userInitiator, LocalDateTime.now());
+        });
     }
-}
\ No newline at end of file
+}
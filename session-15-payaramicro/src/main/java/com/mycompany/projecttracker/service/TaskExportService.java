@@ -0,0 +1,174 @@
+package com.mycompany.projecttracker.service;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Exportación de tareas en streaming (CSV y NDJSON).
+ *
+ * No usamos JPA aquí a propósito: con un cursor JDBC "forward-only" y un fetch size
+ * moderado, el driver trae las filas por lotes y cada fila se escribe directamente
+ * en la respuesta HTTP. La memoria usada no depende del número de tareas.
+ *
+ * No vaciamos la salida en cada fila: cada flush() es un chunk HTTP (y, con @Compress,
+ * un SYNC_FLUSH de gzip que empeora la compresión). Se vacía cada 'export.flush-rows' filas.
+ */
+@ApplicationScoped
+public class TaskExportService {
+
+    private static final String SELECT_TASKS =
+        "SELECT ID, TITLE, STATUS, CREATEDBY, CREATEDAT FROM TASK WHERE PROJECT_ID = ? ORDER BY ID";
+
+    @Resource(lookup = "jdbc/projectTracker")
+    private DataSource ds;
+
+    @Inject
+    @ConfigProperty(name = "export.fetch-size", defaultValue = "500")
+    private int fetchSize;
+
+    // Filas entre dos flush(): el cliente ve progreso sin trocear la respuesta en exceso
+    @Inject
+    @ConfigProperty(name = "export.flush-rows", defaultValue = "1000")
+    private int flushRows;
+
+    public void exportCsv(Long projectId, OutputStream output) throws IOException {
+        Writer writer = newWriter(output);
+        // La cabecera sale con el primer bloque de filas
+        writer.write("id,title,status,createdBy,createdAt\n");
+
+        streamTasks(projectId, writer, rs -> {
+            writer.write(String.valueOf(rs.getLong("ID")));
+            writer.write(',');
+            writer.write(csv(rs.getString("TITLE")));
+            writer.write(',');
+            writer.write(csv(rs.getString("STATUS")));
+            writer.write(',');
+            writer.write(csv(rs.getString("CREATEDBY")));
+            writer.write(',');
+            writer.write(csv(toText(rs.getDate("CREATEDAT"))));
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    public void exportNdjson(Long projectId, OutputStream output) throws IOException {
+        Writer writer = newWriter(output);
+
+        streamTasks(projectId, writer, rs -> {
+            // Un objeto JSON por línea, escrito a mano: un JsonGenerator por fila
+            // costaría un objeto nuevo y un flush() en cada una.
+            writer.write("{\"id\":");
+            writer.write(String.valueOf(rs.getLong("ID")));
+            writer.write(",\"title\":");
+            json(writer, rs.getString("TITLE"));
+            writer.write(",\"status\":");
+            json(writer, rs.getString("STATUS"));
+            writer.write(",\"createdBy\":");
+            json(writer, rs.getString("CREATEDBY"));
+            writer.write(",\"createdAt\":");
+            json(writer, toText(rs.getDate("CREATEDAT")));
+            writer.write("}\n");
+        });
+        writer.flush();
+    }
+
+    /**
+     * Recorre las tareas del proyecto fila a fila con un cursor del lado del servidor.
+     */
+    private void streamTasks(Long projectId, Writer writer, RowWriter rowWriter) throws IOException {
+        try (Connection conn = ds.getConnection()) {
+            // PostgreSQL solo usa cursores (fetch size) fuera del modo auto-commit
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_TASKS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, projectId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    long rows = 0;
+                    while (rs.next()) {
+                        rowWriter.write(rs);
+                        if (++rows % flushRows == 0) {
+                            writer.flush();
+                        }
+                    }
+                }
+            } finally {
+                conn.rollback(); // Solo lectura: no hay nada que confirmar
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error leyendo las tareas del proyecto " + projectId, e);
+        }
+    }
+
+    private static Writer newWriter(OutputStream output) {
+        return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Escribe un string JSON (o null) escapando comillas, barras y caracteres de control (RFC 8259).
+     */
+    private static void json(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private static String toText(Date date) {
+        return date == null ? null : date.toLocalDate().toString();
+    }
+
+    /**
+     * Escapa un valor según RFC 4180 (comillas dobles si contiene separadores).
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,199 @@
+package com.mycompany.projecttracker.service.report;
+
+import com.mycompany.projecttracker.metrics.LayerMetrics;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Control de admisión delante del ejecutor virtual de reportes.
+ *
+ * El @ManagedExecutorDefinition solo permite fijar 'maxAsync'; la cola que hay detrás
+ * no tiene límite. Aquí añadimos lo que falta:
+ * - Como mucho 'report.executor.max-concurrent' tareas corriendo a la vez.
+ * - Una cola acotada ('report.executor.queue-capacity') con dos carriles: ADMIN se atiende antes que USER.
+ * - Un tope de tareas (en cola + corriendo) por usuario ('report.executor.max-per-user').
+ * Si no hay sitio se lanza RejectedExecutionException, que la API traduce a 503.
+ */
+@ApplicationScoped
+public class ReportAdmissionController {
+
+    public enum Lane { ADMIN, USER }
+
+    // Tarea admitida: lo necesario para ejecutarla o, si el ejecutor la rechaza, liberar su hueco
+    private record Admitted(Runnable runnable, String user, CompletableFuture<?> future) {}
+
+    @Resource(lookup = "java:app/concurrent/VirtualExecutor")
+    private ManagedExecutorService executor;
+
+    @Inject
+    private LayerMetrics layerMetrics;
+
+    @Inject
+    @ConfigProperty(name = "report.executor.max-concurrent", defaultValue = "10")
+    private int maxConcurrent;
+
+    @Inject
+    @ConfigProperty(name = "report.executor.queue-capacity", defaultValue = "50")
+    private int queueCapacity;
+
+    @Inject
+    @ConfigProperty(name = "report.executor.max-per-user", defaultValue = "3")
+    private int maxPerUser;
+
+    // Todo el estado de admisión se protege con este lock (operaciones muy cortas)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Lane, Deque<Admitted>> lanes = new EnumMap<>(Map.of(
+        Lane.ADMIN, new ArrayDeque<>(),
+        Lane.USER, new ArrayDeque<>()
+    ));
+    private final Map<String, Integer> tasksPerUser = new HashMap<>();
+
+    // volatile para que los gauges puedan leerlos sin tomar el lock
+    private volatile int active;
+    private volatile int queued;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Admite la tarea (la ejecuta ya o la encola) o la rechaza inmediatamente.
+     */
+    public <T> CompletableFuture<T> submit(Lane lane, String user, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // La tarea hereda la traza de la petición (mismo trace-id) y se mide en la capa "report-task"
+        Supplier<T> traced = layerMetrics.propagate("report-task", task);
+        Runnable runnable = () -> {
+            try {
+                future.complete(traced.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                onFinished(user);
+            }
+        };
+
+        Admitted admitted = new Admitted(runnable, user, future);
+        boolean runNow;
+        lock.lock();
+        try {
+            if (tasksPerUser.getOrDefault(user, 0) >= maxPerUser) {
+                throw reject("El usuario " + user + " ya tiene " + maxPerUser + " reportes en curso");
+            }
+            if (active < maxConcurrent) {
+                active++;
+                runNow = true;
+            } else if (queued < queueCapacity) {
+                lanes.get(lane).addLast(admitted);
+                queued++;
+                runNow = false;
+            } else {
+                throw reject("Cola de reportes llena (" + queueCapacity + ")");
+            }
+            tasksPerUser.merge(user, 1, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+
+        if (runNow) {
+            dispatch(admitted);
+        }
+        return future;
+    }
+
+    /**
+     * Al terminar una tarea, su "hueco" pasa directamente a la siguiente de la cola (ADMIN primero).
+     */
+    private void onFinished(String user) {
+        Admitted next;
+        lock.lock();
+        try {
+            tasksPerUser.computeIfPresent(user, (key, count) -> count > 1 ? count - 1 : null);
+            next = pollNext();
+            if (next == null) {
+                active--;
+            } else {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (next != null) {
+            try {
+                dispatch(next);
+            } catch (RejectedExecutionException e) {
+                // Nadie espera la excepción en este hilo: se la damos al future de la tarea encolada
+                next.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void dispatch(Admitted admitted) {
+        try {
+            executor.execute(admitted.runnable());
+        } catch (RejectedExecutionException e) {
+            // El ejecutor del servidor no aceptó la tarea: devolvemos el hueco
+            // (que puede pasar a la siguiente de la cola)
+            rejected.incrementAndGet();
+            onFinished(admitted.user());
+            throw e;
+        }
+    }
+
+    private Admitted pollNext() {
+        for (Lane lane : Lane.values()) { // El orden del enum define la prioridad
+            Admitted next = lanes.get(lane).pollFirst();
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    private RejectedExecutionException reject(String reason) {
+        rejected.incrementAndGet();
+        return new RejectedExecutionException(reason);
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    // --- Métricas (MicroProfile Metrics): visibles en /metrics ---
+
+    @Gauge(name = "reports_executor_active", absolute = true, unit = MetricUnits.NONE,
+        description = "Reportes ejecutándose en este momento")
+    public int getActiveCount() {
+        return active;
+    }
+
+    @Gauge(name = "reports_executor_queued", absolute = true, unit = MetricUnits.NONE,
+        description = "Reportes esperando en la cola de admisión")
+    public int getQueuedCount() {
+        return queued;
+    }
+
+    @Gauge(name = "reports_executor_rejected", absolute = true, unit = MetricUnits.NONE,
+        description = "Reportes rechazados por falta de capacidad (acumulado)")
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
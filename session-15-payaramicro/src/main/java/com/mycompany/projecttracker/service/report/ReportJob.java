@@ -0,0 +1,59 @@
+package com.mycompany.projecttracker.service.report;
+
+import com.mycompany.projecttracker.model.ProjectReportDTO;
+import com.mycompany.projecttracker.model.ReportJobDTO;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Un job de reporte registrado en {@link ReportJobRegistry}.
+ * El estado se deriva del CompletableFuture, así no hay que sincronizar nada a mano.
+ */
+public class ReportJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long projectId;
+    private final String requestedBy;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final CompletableFuture<ProjectReportDTO> future;
+    private volatile LocalDateTime completedAt;
+
+    public ReportJob(Long projectId, String requestedBy, CompletableFuture<ProjectReportDTO> future) {
+        this.projectId = projectId;
+        this.requestedBy = requestedBy;
+        // Marcamos la hora de fin en cuanto termine (bien o mal)
+        this.future = future.whenComplete((result, error) -> completedAt = LocalDateTime.now());
+    }
+
+    public Status getStatus() {
+        if (!future.isDone()) {
+            return Status.RUNNING;
+        }
+        return future.isCompletedExceptionally() ? Status.FAILED : Status.COMPLETED;
+    }
+
+    /**
+     * Devuelve el resultado solo si ya está disponible (nunca bloquea).
+     */
+    public ProjectReportDTO getResultNow() {
+        return getStatus() == Status.COMPLETED ? future.resultNow() : null;
+    }
+
+    public String getError() {
+        return getStatus() == Status.FAILED ? future.exceptionNow().getMessage() : null;
+    }
+
+    public ReportJobDTO toDTO() {
+        return new ReportJobDTO(id, projectId, getStatus().name(), requestedBy, submittedAt, completedAt, getError());
+    }
+
+    public String getId() { return id; }
+    public Long getProjectId() { return projectId; }
+    public String getRequestedBy() { return requestedBy; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public CompletableFuture<ProjectReportDTO> getFuture() { return future; }
+}
@@ -0,0 +1,102 @@
+package com.mycompany.projecttracker.service.report;
+
+import com.mycompany.projecttracker.model.ProjectReportDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Registro en memoria de los jobs de reporte.
+ *
+ * - Cada job tiene un ID consultable desde la API.
+ * - Deduplicación: si el mismo usuario vuelve a pedir el reporte de un proyecto mientras
+ *   su job anterior sigue corriendo (o terminó hace menos de 'report.dedup.window'), se reutiliza.
+ *   La clave incluye al usuario: nunca se entrega a B el job (ni el 'requestedBy') de A.
+ * - Los resultados terminados se conservan 'report.result.ttl' y luego se expulsan.
+ */
+@ApplicationScoped
+public class ReportJobRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportJobRegistry.class.getName());
+
+    @Inject
+    @ConfigProperty(name = "report.dedup.window", defaultValue = "PT30S")
+    private Duration dedupWindow;
+
+    @Inject
+    @ConfigProperty(name = "report.result.ttl", defaultValue = "PT10M")
+    private Duration resultTtl;
+
+    // jobId -> job
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    private record DedupKey(Long projectId, String requestedBy) {}
+
+    // (proyecto, usuario) -> último job lanzado (para deduplicar)
+    private final Map<DedupKey, ReportJob> latestByRequest = new ConcurrentHashMap<>();
+
+    /**
+     * Devuelve un job existente equivalente o registra uno nuevo usando 'launcher'.
+     * compute() es atómico por clave: dos peticiones simultáneas nunca lanzan dos jobs.
+     */
+    public ReportJob submit(Long projectId, String requestedBy, Supplier<CompletableFuture<ProjectReportDTO>> launcher) {
+        evictExpired();
+
+        return latestByRequest.compute(new DedupKey(projectId, requestedBy), (key, current) -> {
+            if (current != null && isReusable(current)) {
+                LOGGER.info("--> Reporte deduplicado: reutilizando job " + current.getId() + " para Proyecto ID: " + key.projectId());
+                return current;
+            }
+            ReportJob job = new ReportJob(key.projectId(), requestedBy, launcher.get());
+            jobs.put(job.getId(), job);
+            return job;
+        });
+    }
+
+    public Optional<ReportJob> find(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job != null && isExpired(job, LocalDateTime.now())) {
+            remove(job);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private boolean isReusable(ReportJob job) {
+        return switch (job.getStatus()) {
+            case RUNNING -> true;
+            case FAILED -> false;
+            case COMPLETED -> job.getSubmittedAt().plus(dedupWindow).isAfter(LocalDateTime.now());
+        };
+    }
+
+    private boolean isExpired(ReportJob job, LocalDateTime now) {
+        LocalDateTime completedAt = job.getCompletedAt();
+        return completedAt != null && completedAt.plus(resultTtl).isBefore(now);
+    }
+
+    /**
+     * Expulsión perezosa: se ejecuta en cada submit, sin necesidad de un timer aparte.
+     */
+    private void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().stream()
+            .filter(job -> isExpired(job, now))
+            .toList()
+            .forEach(this::remove);
+    }
+
+    private void remove(ReportJob job) {
+        jobs.remove(job.getId());
+        latestByRequest.remove(new DedupKey(job.getProjectId(), job.getRequestedBy()), job);
+    }
+}
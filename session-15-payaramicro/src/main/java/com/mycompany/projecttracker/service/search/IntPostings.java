@@ -0,0 +1,81 @@
+package com.mycompany.projecttracker.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista de "postings" de un término: IDs de proyecto ordenados y sin repetir,
+ * guardados en un int[] (sin objetos Integer: poca memoria y recorridos muy rápidos).
+ *
+ * No es thread-safe: ProjectSearchIndex la protege con su lock.
+ */
+final class IntPostings {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        // Caso habitual: los IDs llegan en orden creciente
+        if (size == 0 || id > ids[size - 1]) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return; // Ya estaba
+        }
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    /**
+     * Quita el ID si está. Devuelve true si la lista queda vacía.
+     */
+    boolean remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Intersección de 'sorted' con esta lista (ambas ordenadas): O(n + m), sin objetos intermedios.
+     */
+    int[] intersect(int[] sorted) {
+        int[] result = new int[Math.min(sorted.length, size)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < sorted.length && j < size) {
+            if (sorted[i] == ids[j]) {
+                result[count++] = sorted[i];
+                i++;
+                j++;
+            } else if (sorted[i] < ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.mycompany.projecttracker.service.search;
+
+import com.mycompany.projecttracker.event.ProjectCreatedEvent;
+import com.mycompany.projecttracker.event.ProjectDeletedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import com.mycompany.projecttracker.event.TaskCreatedEvent;
+import com.mycompany.projecttracker.event.TaskDeletedEvent;
+import com.mycompany.projecttracker.event.TaskUpdatedEvent;
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * Índice invertido en memoria: término -> IDs de proyecto que lo contienen.
+ * Junto a él, el índice directo (proyecto -> sus términos) para poder quitar un proyecto
+ * tocando solo sus listas.
+ *
+ * Indexa nombre y descripción de cada proyecto y los títulos de sus tareas.
+ * - Se construye completo al arrancar la aplicación (en segundo plano, ver WarmupService).
+ * - Se actualiza de forma incremental con los eventos de creación (solo tras el commit).
+ * - Si un proyecto o sus tareas cambian o se borran, se reindexa solo ese proyecto.
+ * - Los cambios que llegan mientras se reconstruye se anotan y se reindexan tras publicar
+ *   el índice nuevo: si no, se perderían con el índice viejo.
+ * Una búsqueda es una intersección de listas de int ordenadas: no toca la base de datos.
+ */
+@ApplicationScoped
+public class ProjectSearchIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectSearchIndex.class.getName());
+
+    @PersistenceContext(unitName = "project-tracker-pu")
+    private EntityManager em;
+
+    // "memory" (este índice) o "postgres" (tsvector, ver ProjectSearchService)
+    @Inject
+    @ConfigProperty(name = "search.backend", defaultValue = "memory")
+    private String backend;
+
+    // Muchas búsquedas concurrentes, pocas escrituras
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, IntPostings> postings = new HashMap<>();
+    private Map<Integer, ProjectSummary> projects = new HashMap<>();
+    private Map<Integer, Set<String>> termsByProject = new HashMap<>();
+
+    // Proyectos modificados durante una reconstrucción (null si no hay ninguna en curso).
+    // Con el write lock tomado.
+    private Set<Integer> changedDuringRebuild;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Un lock por grupo de proyectos: las actualizaciones de un mismo proyecto (lectura de la
+    // base de datos + aplicación) van en orden, y la última lectura es la que queda.
+    private final ReentrantLock[] projectLocks = new ReentrantLock[64];
+
+    {
+        for (int i = 0; i < projectLocks.length; i++) {
+            projectLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return "memory".equalsIgnoreCase(backend);
+    }
+
+    /**
+     * Construcción inicial: la lanza WarmupService en segundo plano, no el arranque.
+     */
+    public void warmUp() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reconstruye el índice leyendo las columnas necesarias (sin entidades).
+     * Se construye aparte y se publica de golpe: las búsquedas nunca ven un índice a medias.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Set<Integer> changed = buildAndPublish();
+            // Lo que cambió mientras leíamos: el índice nuevo puede no tenerlo (o tener una versión vieja)
+            changed.forEach(id -> reindex((long) id));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Set<Integer> buildAndPublish() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        Map<String, IntPostings> newPostings = new HashMap<>();
+        Map<Integer, ProjectSummary> newProjects = new HashMap<>();
+        Map<Integer, Set<String>> newTermsByProject = new HashMap<>();
+
+        try {
+            em.createQuery("SELECT p.id, p.name, p.description, p.status FROM Project p ORDER BY p.id", Object[].class)
+                .getResultStream()
+                .forEach(row -> {
+                    int id = Math.toIntExact((Long) row[0]);
+                    newProjects.put(id, new ProjectSummary((Long) row[0], (String) row[1], (String) row[3]));
+                    addTerms(newPostings, newTermsByProject, id, (String) row[1]);
+                    addTerms(newPostings, newTermsByProject, id, (String) row[2]);
+                });
+
+            em.createQuery("SELECT t.project.id, t.title FROM Task t ORDER BY t.project.id", Object[].class)
+                .getResultStream()
+                .forEach(row -> addTerms(newPostings, newTermsByProject, Math.toIntExact((Long) row[0]), (String) row[1]));
+        } catch (RuntimeException e) {
+            // Seguimos con el índice anterior, que ya tiene los cambios: dejamos de anotarlos
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        Set<Integer> changed;
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            projects = newProjects;
+            termsByProject = newTermsByProject;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("--> [Search] Índice construido: " + newProjects.size() + " proyectos, "
+            + newPostings.size() + " términos en " + (System.currentTimeMillis() - start) + " ms"
+            + " (" + changed.size() + " cambiados durante la construcción)");
+        return changed;
+    }
+
+    public void onProjectCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectCreatedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        ProjectDTO project = event.project();
+        int id = Math.toIntExact(project.id());
+
+        ReentrantLock projectLock = projectLock(id);
+        projectLock.lock();
+        lock.writeLock().lock();
+        try {
+            markChanged(id);
+            projects.put(id, new ProjectSummary(project.id(), project.name(), project.status()));
+            addTerms(postings, termsByProject, id, project.name());
+            addTerms(postings, termsByProject, id, project.description());
+        } finally {
+            lock.writeLock().unlock();
+            projectLock.unlock();
+        }
+    }
+
+    public void onTaskCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) TaskCreatedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        int id = Math.toIntExact(event.projectId());
+
+        ReentrantLock projectLock = projectLock(id);
+        projectLock.lock();
+        lock.writeLock().lock();
+        try {
+            markChanged(id);
+            addTerms(postings, termsByProject, id, event.task().title());
+        } finally {
+            lock.writeLock().unlock();
+            projectLock.unlock();
+        }
+    }
+
+    public void onProjectUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectUpdatedEvent event) {
+        reindex(event.project().id());
+    }
+
+    public void onProjectDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectDeletedEvent event) {
+        reindex(event.projectId());
+    }
+
+    public void onTaskUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) TaskUpdatedEvent event) {
+        reindex(event.projectId());
+    }
+
+    public void onTaskDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) TaskDeletedEvent event) {
+        reindex(event.projectId());
+    }
+
+    /**
+     * Vuelve a indexar un proyecto (o lo quita si ya no existe).
+     * Sus términos anteriores salen del índice directo: solo se tocan las listas
+     * de esos términos, no todo el vocabulario.
+     */
+    private void reindex(Long projectId) {
+        if (!isEnabled()) {
+            return;
+        }
+        int id = Math.toIntExact(projectId);
+
+        // El lock del proyecto cubre lectura y aplicación: si dos reindexados del mismo proyecto
+        // se cruzan, el que lee después aplica después. El write lock se toma solo para aplicar:
+        // las búsquedas no esperan a la base de datos.
+        ReentrantLock projectLock = projectLock(id);
+        projectLock.lock();
+        try {
+            reindexLocked(projectId, id);
+        } finally {
+            projectLock.unlock();
+        }
+    }
+
+    // Con el lock del proyecto tomado
+    private void reindexLocked(Long projectId, int id) {
+        List<Object[]> project = em.createQuery(
+                "SELECT p.name, p.description, p.status FROM Project p WHERE p.id = :id", Object[].class)
+            .setParameter("id", projectId)
+            .getResultList();
+        List<String> titles = project.isEmpty() ? List.of() : em.createQuery(
+                "SELECT t.title FROM Task t WHERE t.project.id = :id", String.class)
+            .setParameter("id", projectId)
+            .getResultList();
+
+        lock.writeLock().lock();
+        try {
+            markChanged(id);
+            removeProject(id);
+            if (project.isEmpty()) {
+                return; // Proyecto borrado
+            }
+            Object[] row = project.get(0);
+            projects.put(id, new ProjectSummary(projectId, (String) row[0], (String) row[2]));
+            addTerms(postings, termsByProject, id, (String) row[0]);
+            addTerms(postings, termsByProject, id, (String) row[1]);
+            titles.forEach(title -> addTerms(postings, termsByProject, id, title));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Proyectos que contienen TODOS los términos de la consulta, por ID ascendente.
+     */
+    public List<ProjectSummary> search(String query, int limit) {
+        List<String> terms = TextAnalyzer.analyze(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IntPostings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                IntPostings list = postings.get(term);
+                if (list == null) {
+                    return List.of(); // Un término sin resultados: la intersección es vacía
+                }
+                lists.add(list);
+            }
+            // Empezamos por la lista más corta: cada intersección posterior es más barata
+            lists.sort(Comparator.comparingInt(IntPostings::size));
+
+            int[] matches = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && matches.length > 0; i++) {
+                matches = lists.get(i).intersect(matches);
+            }
+
+            List<ProjectSummary> results = new ArrayList<>(Math.min(limit, matches.length));
+            for (int i = 0; i < matches.length && results.size() < limit; i++) {
+                ProjectSummary project = projects.get(matches[i]);
+                if (project != null) {
+                    results.add(project);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ReentrantLock projectLock(int id) {
+        return projectLocks[Math.floorMod(id, projectLocks.length)];
+    }
+
+    // Con el write lock tomado
+    private void markChanged(int id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+    }
+
+    // Con el write lock tomado
+    private void removeProject(int id) {
+        Set<String> terms = termsByProject.remove(id);
+        if (terms != null) {
+            for (String term : terms) {
+                IntPostings list = postings.get(term);
+                if (list != null && list.remove(id)) {
+                    postings.remove(term); // Lista vacía: el término desaparece
+                }
+            }
+        }
+        projects.remove(id);
+    }
+
+    private static void addTerms(Map<String, IntPostings> target, Map<Integer, Set<String>> termsByProject,
+                                 int projectId, String text) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        if (terms.isEmpty()) {
+            return;
+        }
+        Set<String> projectTerms = termsByProject.computeIfAbsent(projectId, key -> new HashSet<>());
+        for (String term : terms) {
+            target.computeIfAbsent(term, key -> new IntPostings()).add(projectId);
+            projectTerms.add(term);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mycompany.projecttracker.service.search;
+
+import com.mycompany.projecttracker.model.ProjectSummary;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+/**
+ * Búsqueda de texto sobre proyectos (nombre, descripción y títulos de tareas).
+ *
+ * Por defecto usa el índice en memoria (ProjectSearchIndex).
+ * Con search.backend=postgres delega en la búsqueda de texto completo de PostgreSQL
+ * (tsvector); los índices GIN correspondientes están en db/search-tsvector.sql.
+ */
+@ApplicationScoped
+public class ProjectSearchService {
+
+    public static final int MAX_RESULTS = 100;
+
+    /*
+     * Misma semántica que ProjectSearchIndex: TODOS los términos, repartidos como sea entre
+     * nombre, descripción y títulos de tareas. Por eso el filtro exacto se hace sobre un único
+     * tsvector con el texto del proyecto y todas sus tareas.
+     * Ese tsvector agregado no tiene índice: antes, los índices GIN (db/search-tsvector.sql)
+     * descartan los proyectos que no contienen NINGÚN término (la consulta con '&' cambiado por '|').
+     */
+    private static final String POSTGRES_SEARCH = """
+        WITH q AS (
+            SELECT plainto_tsquery('spanish', ?1) AS all_terms,
+                   replace(plainto_tsquery('spanish', ?1)::text, '&', '|')::tsquery AS any_term
+        )
+        SELECT p.ID, p.NAME, p.STATUS FROM PROJECT p, q
+        WHERE (to_tsvector('spanish', p.NAME || ' ' || COALESCE(p.DESCRIPTION, '')) @@ q.any_term
+               OR EXISTS (SELECT 1 FROM TASK t
+                          WHERE t.PROJECT_ID = p.ID
+                            AND to_tsvector('spanish', t.TITLE) @@ q.any_term))
+          AND to_tsvector('spanish', p.NAME || ' ' || COALESCE(p.DESCRIPTION, '') || ' '
+                || COALESCE((SELECT string_agg(t.TITLE, ' ') FROM TASK t WHERE t.PROJECT_ID = p.ID), ''))
+              @@ q.all_terms
+        ORDER BY p.ID
+        LIMIT ?2
+        """;
+
+    @Inject
+    private ProjectSearchIndex index;
+
+    @PersistenceContext(unitName = "project-tracker-pu")
+    private EntityManager em;
+
+    public List<ProjectSummary> search(String query, int limit) {
+        int maxResults = Math.clamp(limit, 1, MAX_RESULTS);
+        if (index.isEnabled()) {
+            return index.search(query, maxResults);
+        }
+        return searchPostgres(query, maxResults);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProjectSummary> searchPostgres(String query, int limit) {
+        List<Object[]> rows = em.createNativeQuery(POSTGRES_SEARCH)
+            .setParameter(1, query)
+            .setParameter(2, limit)
+            .getResultList();
+        return rows.stream()
+            .map(row -> new ProjectSummary(((Number) row[0]).longValue(), (String) row[1], (String) row[2]))
+            .toList();
+    }
+}
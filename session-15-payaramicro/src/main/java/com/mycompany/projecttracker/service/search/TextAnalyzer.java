@@ -0,0 +1,84 @@
+package com.mycompany.projecttracker.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Convierte un texto en los términos que guarda el índice invertido.
+ *
+ * 1. Minúsculas y sin acentos ("Diseñar" -> "disenar").
+ * 2. Se parte por todo lo que no sea letra o dígito.
+ * 3. Se descartan palabras vacías (español e inglés).
+ * 4. "Stemming" ligero: se quitan sufijos comunes ("proyectos" -> "proyecto", "testing" -> "test").
+ *    Singular y plural dan la misma raíz: "reporte"/"reportes" -> "report", "clase"/"clases" -> "clas".
+ *
+ * El mismo análisis se aplica al indexar y al buscar, así ambos coinciden.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        // Español
+        "de", "la", "el", "los", "las", "un", "una", "unos", "unas", "y", "o", "en", "del", "al",
+        "para", "por", "con", "sin", "que", "se", "su", "sus", "lo",
+        // Inglés
+        "the", "a", "an", "and", "or", "of", "to", "in", "on", "for", "with", "is", "are", "by"
+    );
+
+    // Ordenados de más largo a más corto: se quita el primero que coincida
+    private static final List<String> SUFFIXES = List.of(
+        "aciones", "amiento", "imiento", "ciones", "mente", "acion", "cion",
+        "iendo", "ando", "ados", "idos", "ing", "ado", "ido", "ed"
+    );
+
+    // Letras tras las que una "s" final es la de un singular ("pais", "autobus", "class")
+    private static final String SINGULAR_S = "ius";
+
+    // Raíz mínima que dejamos tras quitar un sufijo
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD)).replaceAll("");
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String token) {
+        String stem = stripSuffix(token);
+        // Plural: se quita la "s" y luego la "e" final, igual que en el singular
+        // ("reportes" -> "reporte" -> "report", "ciudades" -> "ciudade" -> "ciudad")
+        if (stem.length() == token.length() && stem.endsWith("s") && stem.length() - 1 >= MIN_STEM_LENGTH
+                && SINGULAR_S.indexOf(stem.charAt(stem.length() - 2)) < 0) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        if (stem.endsWith("e") && stem.length() - 1 >= MIN_STEM_LENGTH) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static String stripSuffix(String token) {
+        for (String suffix : SUFFIXES) {
+            if (token.endsWith(suffix) && token.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+}
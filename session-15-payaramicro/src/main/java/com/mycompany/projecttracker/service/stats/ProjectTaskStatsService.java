@@ -0,0 +1,135 @@
+package com.mycompany.projecttracker.service.stats;
+
+import com.mycompany.projecttracker.entity.Task;
+import com.mycompany.projecttracker.model.ProjectStatsDTO;
+import com.mycompany.projecttracker.model.TaskStatusCount;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene la tabla PROJECT_TASK_STATS.
+ *
+ * Los métodos de escritura exigen una transacción activa (MANDATORY): el contador se
+ * actualiza junto con la tarea, o no se actualiza en absoluto.
+ */
+@ApplicationScoped
+public class ProjectTaskStatsService {
+
+    // Clave usada para tareas sin estado (la columna STATUS forma parte de la PK)
+    public static final String NO_STATUS = "Sin estado";
+
+    /**
+     * "Upsert" nativo de PostgreSQL: suma el delta a la franja o crea la fila si no existe.
+     * Es atómico, por lo que no hay carrera entre dos INSERT de la misma franja.
+     */
+    private static final String UPSERT_SQL = """
+        INSERT INTO PROJECT_TASK_STATS (PROJECT_ID, STATUS, STRIPE, TASK_COUNT, LAST_ACTIVITY)
+        VALUES (?1, ?2, ?3, ?4, ?5)
+        ON CONFLICT (PROJECT_ID, STATUS, STRIPE) DO UPDATE
+        SET TASK_COUNT = PROJECT_TASK_STATS.TASK_COUNT + EXCLUDED.TASK_COUNT,
+            LAST_ACTIVITY = GREATEST(PROJECT_TASK_STATS.LAST_ACTIVITY, EXCLUDED.LAST_ACTIVITY)
+        """;
+
+    @PersistenceContext(unitName = "project-tracker-pu")
+    private EntityManager em;
+
+    // Número de franjas por (proyecto, estado). Más franjas = menos contención, lectura algo mayor.
+    @Inject
+    @ConfigProperty(name = "stats.stripes", defaultValue = "4")
+    private int stripes;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void taskCreated(Long projectId, String status) {
+        increment(projectId, status, 1);
+    }
+
+    /**
+     * Variante por lotes (Batch): agrupa antes, un solo upsert por (proyecto, estado).
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void tasksCreated(Collection<Task> tasks) {
+        Map<Long, Map<String, Long>> deltas = tasks.stream()
+            .collect(Collectors.groupingBy(task -> task.getProject().getId(),
+                Collectors.groupingBy(task -> normalize(task.getStatus()), Collectors.counting())));
+
+        deltas.forEach((projectId, byStatus) ->
+            byStatus.forEach((status, count) -> increment(projectId, status, count)));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void statusChanged(Long projectId, String fromStatus, String toStatus, long count) {
+        if (Objects.equals(normalize(fromStatus), normalize(toStatus))) {
+            return;
+        }
+        increment(projectId, fromStatus, -count);
+        increment(projectId, toStatus, count);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void taskDeleted(Long projectId, String status) {
+        increment(projectId, status, -1);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void projectDeleted(Long projectId) {
+        em.createQuery("DELETE FROM ProjectTaskStats s WHERE s.id.projectId = :projectId")
+            .setParameter("projectId", projectId)
+            .executeUpdate();
+    }
+
+    /**
+     * Lectura O(1): como mucho (estados x franjas) filas por proyecto, nunca la tabla TASK.
+     */
+    public ProjectStatsDTO getStats(Long projectId) {
+        List<TaskStatusCount> counts = em.createQuery(
+                "SELECT NEW com.mycompany.projecttracker.model.TaskStatusCount(s.id.status, SUM(s.taskCount)) " +
+                "FROM ProjectTaskStats s WHERE s.id.projectId = :projectId GROUP BY s.id.status",
+                TaskStatusCount.class)
+            .setParameter("projectId", projectId)
+            .getResultList();
+
+        LocalDateTime lastActivity = em.createQuery(
+                "SELECT MAX(s.lastActivity) FROM ProjectTaskStats s WHERE s.id.projectId = :projectId",
+                LocalDateTime.class)
+            .setParameter("projectId", projectId)
+            .getSingleResult();
+
+        Map<String, Long> tasksByStatus = new LinkedHashMap<>();
+        long totalTasks = 0;
+        for (TaskStatusCount count : counts) {
+            if (count.total() > 0) {
+                tasksByStatus.put(count.status(), count.total());
+                totalTasks += count.total();
+            }
+        }
+        return new ProjectStatsDTO(projectId, totalTasks, tasksByStatus, lastActivity);
+    }
+
+    private void increment(Long projectId, String status, long delta) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        em.createNativeQuery(UPSERT_SQL)
+            .setParameter(1, projectId)
+            .setParameter(2, normalize(status))
+            .setParameter(3, stripe)
+            .setParameter(4, delta)
+            .setParameter(5, LocalDateTime.now())
+            .executeUpdate();
+    }
+
+    private static String normalize(String status) {
+        return status == null ? NO_STATUS : status;
+    }
+}
@@ -3,17 +3,22 @@ package com.mycompany.projecttracker.service.timer;
 
 import com.mycompany.projecttracker.entity.Task;
 import com.mycompany.projecttracker.repository.TaskRepository;
+import com.mycompany.projecttracker.service.stats.ProjectTaskStatsService;
 import jakarta.ejb.Schedule;
 import jakarta.ejb.Singleton;
-import jakarta.ejb.Startup;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+/**
+ * Sin @Startup: los @Schedule automáticos se registran al desplegar igualmente,
+ * y el bean se crea con la primera ejecución del timer en lugar de en el arranque.
+ */
 @Singleton
-@Startup
 public class TaskCleanupService {
 
     private static final Logger logger = Logger.getLogger(TaskCleanupService.class.getName());
@@ -21,6 +26,9 @@ public class TaskCleanupService {
     @Inject
     private TaskRepository taskRepository;
 
+    @Inject
+    private ProjectTaskStatsService statsService;
+
     /**
      * Tarea programada: Ejecutar todos los días a media noche.
      * Sintaxis tipo CRON: hour=0, minute=0, second=0.
@@ -60,6 +68,12 @@ public class TaskCleanupService {
             logger.info("----> Tarea " + task.getId() + " archivada.");
         }
 
+        // 4. Actualizar el resumen: un movimiento "Completada -> Archivada" por proyecto
+        Map<Long, Long> archivedPerProject = tasksToArchive.stream()
+            .collect(Collectors.groupingBy(task -> task.getProject().getId(), Collectors.counting()));
+        archivedPerProject.forEach((projectId, count) ->
+            statsService.statusChanged(projectId, "Completada", "Archivada", count));
+
         logger.info("--> [JOB] Limpieza finalizada.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.mycompany.projecttracker.startup;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.InjectionTarget;
+import jakarta.enterprise.inject.spi.ProcessInjectionTarget;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Extensión CDI que mide cuánto tarda en crearse cada bean de la aplicación
+ * (constructor + inyección + @PostConstruct) mientras la aplicación arranca.
+ * El tiempo es "inclusivo": si crear A obliga a crear B, el de A incluye el de B.
+ *
+ * Se registra en META-INF/services/jakarta.enterprise.inject.spi.Extension.
+ * Deja de medir cuando termina el calentamiento (WarmupService): después solo costaría tiempo.
+ */
+public class StartupProfilerExtension implements Extension {
+
+    private static final String APP_PACKAGE = "com.mycompany.projecttracker";
+
+    private final Map<String, LongAdder> nanosPerBean = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    <T> void wrap(@Observes ProcessInjectionTarget<T> event) {
+        Class<T> type = event.getAnnotatedType().getJavaClass();
+        if (type.getName().startsWith(APP_PACKAGE)) {
+            event.setInjectionTarget(new TimedInjectionTarget<>(event.getInjectionTarget(), type.getSimpleName()));
+        }
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * Beans por tiempo de creación (ms), de mayor a menor.
+     */
+    public Map<String, Long> getBeanTimesMillis() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        nanosPerBean.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+            .forEach(e -> result.put(e.getKey(), e.getValue().sum() / 1_000_000));
+        return result;
+    }
+
+    private void record(String bean, long startNanos) {
+        if (recording) {
+            nanosPerBean.computeIfAbsent(bean, key -> new LongAdder()).add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Delega en el InjectionTarget del contenedor, midiendo cada fase.
+     */
+    private final class TimedInjectionTarget<T> implements InjectionTarget<T> {
+
+        private final InjectionTarget<T> delegate;
+        private final String bean;
+
+        TimedInjectionTarget(InjectionTarget<T> delegate, String bean) {
+            this.delegate = delegate;
+            this.bean = bean;
+        }
+
+        @Override
+        public T produce(CreationalContext<T> ctx) {
+            long start = System.nanoTime();
+            try {
+                return delegate.produce(ctx);
+            } finally {
+                record(bean, start);
+            }
+        }
+
+        @Override
+        public void inject(T instance, CreationalContext<T> ctx) {
+            long start = System.nanoTime();
+            try {
+                delegate.inject(instance, ctx);
+            } finally {
+                record(bean, start);
+            }
+        }
+
+        @Override
+        public void postConstruct(T instance) {
+            long start = System.nanoTime();
+            try {
+                delegate.postConstruct(instance);
+            } finally {
+                record(bean, start);
+            }
+        }
+
+        @Override
+        public void preDestroy(T instance) {
+            delegate.preDestroy(instance);
+        }
+
+        @Override
+        public void dispose(T instance) {
+            delegate.dispose(instance);
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return delegate.getInjectionPoints();
+        }
+    }
+}
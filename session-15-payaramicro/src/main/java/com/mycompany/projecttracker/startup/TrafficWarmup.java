@@ -0,0 +1,195 @@
+package com.mycompany.projecttracker.startup;
+
+import com.mycompany.projecttracker.model.ProjectSummary;
+import com.mycompany.projecttracker.rest.ProjectListCache;
+import com.mycompany.projecttracker.security.TokenService;
+import com.mycompany.projecttracker.service.ProjectService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Calentamiento del JIT con tráfico sintético, antes de que la readiness pase a UP.
+ *
+ * Reproduce dentro del proceso la mezcla típica de peticiones ('warmup.jit.mix'):
+ *   list   -> GET /projects sin caché (consulta de resúmenes + JSON-B + gzip, con y sin ?status):
+ *             lo que hace ProjectResource cuando ProjectListCache no tiene el listado
+ *   cached -> GET /projects con la caché llena (acierto en ProjectListCache); se mide aparte
+ *   get    -> GET /projects/{id}   (versión para el ETag, consulta por ID + JSON-B)
+ *   token -> validación del JWT   (lo que hace HybridAuthenticationMechanism en cada petición)
+ * Así el JIT compila esos caminos (reflexión de JSON-B, consultas de EclipseLink, parseo
+ * de JJWT) antes de que lleguen los primeros usuarios reales.
+ *
+ * Se detiene al llegar a 'warmup.jit.iterations' o a 'warmup.jit.max-seconds'.
+ * Compara la latencia media de las primeras y de las últimas peticiones de cada tipo.
+ */
+@ApplicationScoped
+public class TrafficWarmup {
+
+    private static final Logger LOGGER = Logger.getLogger(TrafficWarmup.class.getName());
+
+    // Peticiones de cada tipo que se promedian al principio y al final
+    private static final int SAMPLE = 50;
+
+    public enum Kind { LIST, CACHED, GET, TOKEN }
+
+    /**
+     * Latencia media (µs) de las primeras y las últimas muestras de cada tipo.
+     */
+    public record Latency(long count, long beforeMicros, long afterMicros) {}
+
+    public record Result(long iterations, long durationMillis, Map<Kind, Latency> latencies) {}
+
+    @Inject
+    private ProjectService projectService;
+
+    @Inject
+    private TokenService tokenService;
+
+    @Inject
+    private ProjectListCache listCache;
+
+    @Inject
+    private Jsonb jsonb;
+
+    @Inject
+    @ConfigProperty(name = "warmup.jit.enabled", defaultValue = "true")
+    private boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "warmup.jit.iterations", defaultValue = "2000")
+    private int iterations;
+
+    @Inject
+    @ConfigProperty(name = "warmup.jit.max-seconds", defaultValue = "30")
+    private int maxSeconds;
+
+    // Pesos relativos de cada tipo de petición
+    @Inject
+    @ConfigProperty(name = "warmup.jit.mix", defaultValue = "list=2,cached=1,get=5,token=3")
+    private String mix;
+
+    private volatile Result lastResult;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Result getLastResult() {
+        return lastResult;
+    }
+
+    public Result run() {
+        if (!enabled) {
+            return null;
+        }
+        Kind[] schedule = parseMix(mix);
+        List<ProjectSummary> projects = projectService.findAll();
+        String token = tokenService.generateToken("warmup", Set.of("USER"));
+
+        Map<Kind, List<Long>> timings = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            timings.put(kind, new ArrayList<>());
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + maxSeconds * 1_000_000_000L;
+        long done = 0;
+        while (done < iterations && System.nanoTime() < deadline) {
+            Kind kind = schedule[(int) (done % schedule.length)];
+            if (kind == Kind.GET && projects.isEmpty()) {
+                kind = Kind.LIST;
+            }
+            long t0 = System.nanoTime();
+            execute(kind, projects, token);
+            timings.get(kind).add((System.nanoTime() - t0) / 1_000);
+            done++;
+        }
+
+        Map<Kind, Latency> latencies = new EnumMap<>(Kind.class);
+        timings.forEach((kind, micros) -> {
+            if (!micros.isEmpty()) {
+                latencies.put(kind, new Latency(micros.size(),
+                    average(micros.subList(0, Math.min(SAMPLE, micros.size()))),
+                    average(micros.subList(Math.max(0, micros.size() - SAMPLE), micros.size()))));
+            }
+        });
+
+        Result result = new Result(done, (System.nanoTime() - start) / 1_000_000, latencies);
+        lastResult = result;
+        LOGGER.info("--> [Warm-up JIT] " + done + " peticiones en " + result.durationMillis()
+            + " ms. Latencia media antes/después (µs): " + latencies);
+        return result;
+    }
+
+    private void execute(Kind kind, List<ProjectSummary> projects, String token) {
+        switch (kind) {
+            case LIST -> {
+                // El camino de un fallo de caché en getProjects, a veces filtrado por un estado que existe.
+                // Sin pasar por la caché: si no, tras la primera vuelta solo calentaríamos un Map.get
+                String status = randomStatus(projects);
+                listCache.serialize(status == null ? projectService.findAll() : projectService.findByStatus(status));
+            }
+            case CACHED -> {
+                String status = randomStatus(projects);
+                listCache.get(status, () -> status == null
+                    ? projectService.findAll()
+                    : projectService.findByStatus(status));
+            }
+            case GET -> {
+                // Igual que getProject: primero la versión (ETag); la mitad de las veces el cliente
+                // ya la tiene (304) y no se construye el DTO
+                Long id = projects.get(ThreadLocalRandom.current().nextInt(projects.size())).id();
+                if (projectService.findVersion(id).isPresent() && ThreadLocalRandom.current().nextBoolean()) {
+                    projectService.findById(id).map(jsonb::toJson);
+                }
+            }
+            case TOKEN -> {
+                tokenService.validateTokenAndGetUser(token);
+                tokenService.getRoles(token);
+            }
+        }
+    }
+
+    private static String randomStatus(List<ProjectSummary> projects) {
+        return projects.isEmpty() || ThreadLocalRandom.current().nextBoolean()
+            ? null
+            : projects.get(ThreadLocalRandom.current().nextInt(projects.size())).status();
+    }
+
+    /**
+     * "list=2,get=5,token=3" -> [LIST, LIST, GET, GET, GET, GET, GET, TOKEN, TOKEN, TOKEN].
+     * Se recorre en bucle, así la proporción se mantiene sea cual sea el número de iteraciones.
+     */
+    static Kind[] parseMix(String mix) {
+        List<Kind> schedule = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("warmup.jit.mix inválido: " + mix);
+            }
+            Kind kind = Kind.valueOf(pair[0].trim().toUpperCase());
+            int weight = Integer.parseInt(pair[1].trim());
+            for (int i = 0; i < weight; i++) {
+                schedule.add(kind);
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("warmup.jit.mix vacío");
+        }
+        return schedule.toArray(Kind[]::new);
+    }
+
+    private static long average(List<Long> micros) {
+        return Math.round(micros.stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+}
@@ -0,0 +1,157 @@
+package com.mycompany.projecttracker.startup;
+
+import com.mycompany.projecttracker.metrics.LayerMetrics;
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.security.TokenService;
+import com.mycompany.projecttracker.service.search.ProjectSearchIndex;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Calentamiento en segundo plano, fuera del camino de arranque.
+ *
+ * Lo que no hace falta para aceptar el despliegue (índice de búsqueda, claves JWT,
+ * primera conexión del pool, JSON-B...) se ejecuta en paralelo en el ejecutor gestionado
+ * cuando CDI ya está listo. Después, TrafficWarmup calienta el JIT con tráfico sintético. Mientras tanto, la comprobación de readiness
+ * (WarmupHealthCheck) responde DOWN: el balanceador no nos envía tráfico todavía.
+ *
+ * También reúne el perfil de arranque: tiempo hasta CDI listo, tiempo de cada paso
+ * de calentamiento y tiempo de creación de cada bean (StartupProfilerExtension).
+ */
+@ApplicationScoped
+public class WarmupService {
+
+    private static final Logger LOGGER = Logger.getLogger(WarmupService.class.getName());
+
+    @Resource(lookup = "java:app/concurrent/VirtualExecutor")
+    private ManagedExecutorService executor;
+
+    @Resource(lookup = "jdbc/projectTracker")
+    private DataSource dataSource;
+
+    @Inject
+    private StartupProfilerExtension profiler;
+
+    @Inject
+    private ProjectSearchIndex searchIndex;
+
+    @Inject
+    private TokenService tokenService;
+
+    @Inject
+    private Jsonb jsonb;
+
+    @Inject
+    private TrafficWarmup trafficWarmup;
+
+    @Inject
+    private LayerMetrics layerMetrics;
+
+    private final Map<String, Long> stepMillis = new ConcurrentHashMap<>();
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+
+    // Desde que arrancó la JVM hasta que CDI está listo (incluye el despliegue: esquema, import.sql...)
+    private volatile long bootMillis;
+    private volatile long warmupMillis;
+    private volatile boolean done;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        bootMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        long start = System.nanoTime();
+
+        CompletableFuture.allOf(
+            step("datasource", this::warmDataSource),
+            step("search-index", searchIndex::warmUp),
+            step("jwt", tokenService::warmUp),
+            step("jsonb", () -> jsonb.toJson(new ProjectDTO(0L, "warmup", null, null, 0L)))
+        ).thenCompose(
+            // Con el pool, el índice y las claves listos, tráfico sintético para el JIT
+            ignored -> step("jit", trafficWarmup::run)
+        ).whenComplete((result, error) -> {
+            warmupMillis = (System.nanoTime() - start) / 1_000_000;
+            profiler.stopRecording();
+            // A partir de aquí, los histogramas por capa solo ven tráfico real
+            layerMetrics.startRecording();
+            done = true;
+            logReport();
+        });
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public long getBootMillis() {
+        return bootMillis;
+    }
+
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    public Map<String, Long> getStepMillis() {
+        return new TreeMap<>(stepMillis);
+    }
+
+    public TrafficWarmup.Result getJitResult() {
+        return trafficWarmup.getLastResult();
+    }
+
+    public Map<String, String> getFailures() {
+        return Map.copyOf(failures);
+    }
+
+    /**
+     * Un paso de calentamiento. Si falla, se registra y el resto continúa:
+     * ninguno es imprescindible (lo que no se calentó se inicializa en la primera petición).
+     */
+    private CompletableFuture<Void> step(String name, Runnable task) {
+        return executor.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                failures.put(name, String.valueOf(e.getMessage()));
+                LOGGER.log(Level.WARNING, "--> [Warm-up] Falló el paso " + name, e);
+            } finally {
+                stepMillis.put(name, (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+
+    // Abre la primera conexión física del pool (driver, TLS, autenticación)
+    private void warmDataSource() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.isValid(2);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void logReport() {
+        String beans = profiler.getBeanTimesMillis().entrySet().stream()
+            .limit(10)
+            .map(e -> e.getKey() + "=" + e.getValue() + "ms")
+            .collect(Collectors.joining(", "));
+        LOGGER.info("--> [Startup] JVM -> CDI listo: " + bootMillis + " ms; calentamiento: " + warmupMillis
+            + " ms " + getStepMillis() + (failures.isEmpty() ? "" : " fallos: " + failures.keySet()));
+        LOGGER.info("--> [Startup] Beans más lentos: " + beans);
+    }
+}
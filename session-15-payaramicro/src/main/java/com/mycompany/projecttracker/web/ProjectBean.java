@@ -2,16 +2,17 @@ package com.mycompany.projecttracker.web;
 
 import com.mycompany.projecttracker.model.ProjectDTO;
 import com.mycompany.projecttracker.service.ProjectService;
-import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
-import java.util.List;
 
 /**
  * Controlador para la vista JSF.
  * * @Named: Hace que esta clase sea visible en el archivo .xhtml como "projectBean".
  * @RequestScoped: El bean vive solo durante una petición HTTP. Se crea al pedir la página y muere al responder.
+ *
+ * La tabla de proyectos ya no se carga aquí (¡en cada petición, incluso en los postbacks!):
+ * la gestiona ProjectTableBean, página a página.
  */
 @Named
 @RequestScoped
@@ -20,25 +21,12 @@ public class ProjectBean {
     @Inject
     private ProjectService projectService;
 
-    // Datos para la vista
-    private List<ProjectDTO> projects;
+    @Inject
+    private ProjectTableBean projectTable;
 
     // Objeto para capturar los datos del formulario de "Nuevo Proyecto"
     // Inicializamos un record vacío (o con valores nulos)
-    private ProjectDTO newProject = new ProjectDTO(null, null, null, null);
-
-    /**
-     * Se ejecuta inmediatamente después de que el Bean se crea e inyecta.
-     * Cargamos la lista de proyectos aquí.
-     */
-    @PostConstruct
-    public void init() {
-        loadProjects();
-    }
-
-    private void loadProjects() {
-        this.projects = projectService.findAll();
-    }
+    private ProjectDTO newProject = new ProjectDTO(null, null, null, null, null);
 
     /**
      * Acción ejecutada por el botón "Guardar".
@@ -48,10 +36,10 @@ public class ProjectBean {
         projectService.create(newProject);
 
         // 2. Limpiamos el formulario
-        this.newProject = new ProjectDTO(null, null, null, null);
+        this.newProject = new ProjectDTO(null, null, null, null, null);
 
-        // 3. Recargamos la lista para que aparezca el nuevo
-        loadProjects();
+        // 3. Recargamos solo la página visible de la tabla
+        projectTable.refresh();
 
         // 4. Navegación: devolver null o una cadena vacía significa "quédate en la misma página"
         return "";
@@ -59,10 +47,6 @@ public class ProjectBean {
 
     // --- Getters y Setters (Necesarios para que JSF lea/escriba los datos) ---
 
-    public List<ProjectDTO> getProjects() {
-        return projects;
-    }
-
     public ProjectDTO getNewProject() {
         return newProject;
     }
@@ -89,16 +73,25 @@ public class ProjectBean {
     public String getFormDescription() { return formDescription; }
     public void setFormDescription(String formDescription) { this.formDescription = formDescription; }
 
-    // Versión actualizada del método createProject usando las variables temporales
+    // Último proyecto creado desde el formulario: la vista lo añade a la tabla sin recargarla
+    private ProjectDTO lastCreated;
+
+    public ProjectDTO getLastCreated() { return lastCreated; }
+
+    /**
+     * Versión actualizada del método createProject usando las variables temporales.
+     * Se invoca por Ajax (f:ajax): solo se vuelve a pintar el formulario (mensajes y los datos
+     * del proyecto creado). La fila la añade el JavaScript: la tabla no se vuelve a consultar.
+     */
     public String createProjectFromForm() {
-        ProjectDTO dto = new ProjectDTO(null, formName, formDescription, null);
-        projectService.create(dto);
+        ProjectDTO dto = new ProjectDTO(null, formName, formDescription, null, null);
+        // El clientId evita que el WebSocket nos reenvíe el proyecto que acabamos de pintar
+        lastCreated = projectService.create(dto, projectTable.getClientId());
 
         // Limpiar formulario
         formName = "";
         formDescription = "";
 
-        loadProjects();
-        return "";
+        return null; // Nos quedamos en la misma vista (sin navegación)
     }
-}
\ No newline at end of file
+}
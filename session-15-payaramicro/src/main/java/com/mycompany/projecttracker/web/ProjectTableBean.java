@@ -0,0 +1,115 @@
+package com.mycompany.projecttracker.web;
+
+import com.mycompany.projecttracker.model.ProjectSummary;
+import com.mycompany.projecttracker.service.ProjectService;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.view.ViewScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado de la tabla de proyectos de index.xhtml: una página cada vez.
+ *
+ * @ViewScoped: vive mientras el usuario se quede en la vista (peticiones Ajax incluidas),
+ * así que recuerda en qué página está.
+ *
+ * Paginación por cursor ("keyset"): en lugar de un número de página guardamos el último ID
+ * de la página anterior. Cada página es una consulta "WHERE id > cursor LIMIT n",
+ * cuyo coste no depende de cuántos proyectos haya en total.
+ */
+@Named("projectTable")
+@ViewScoped
+public class ProjectTableBean implements Serializable {
+
+    @Inject
+    private ProjectService projectService;
+
+    @Inject
+    @ConfigProperty(name = "projects.page-size", defaultValue = "20")
+    private int pageSize;
+
+    // Identifica esta vista (pestaña del navegador) ante el WebSocket del dashboard
+    private final String clientId = UUID.randomUUID().toString();
+
+    // Cursor de la página actual: último ID de la página anterior (0 = primera página)
+    private long cursor;
+
+    // Cursores de las páginas anteriores, para "Anterior" sin consultas hacia atrás
+    private final Deque<Long> previousCursors = new ArrayDeque<>();
+
+    // La página se carga perezosamente, la primera vez que la petición la pide, y solo vale
+    // para esa petición: otros usuarios crean proyectos (el navegador los añade por WebSocket)
+    // y 'hasNext' tiene que estar al día cuando JSF decide si "Siguiente" está habilitado.
+    // 'transient': no se guarda con el estado de la vista.
+    private transient List<ProjectSummary> page;
+    private transient boolean hasNext;
+    private transient FacesContext pageRequest;
+
+    public List<ProjectSummary> getPage() {
+        FacesContext request = FacesContext.getCurrentInstance();
+        if (page == null || pageRequest != request) {
+            // Pedimos una fila de más: si llega, hay página siguiente
+            List<ProjectSummary> rows = projectService.findPage(cursor, pageSize + 1);
+            hasNext = rows.size() > pageSize;
+            page = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+            pageRequest = request;
+        }
+        return page;
+    }
+
+    public void next() {
+        if (isHasNext()) {
+            previousCursors.push(cursor);
+            cursor = page.getLast().id();
+            page = null;
+        }
+    }
+
+    public void previous() {
+        if (!previousCursors.isEmpty()) {
+            cursor = previousCursors.pop();
+            page = null;
+        }
+    }
+
+    public void first() {
+        previousCursors.clear();
+        cursor = 0;
+        page = null;
+    }
+
+    /**
+     * Vuelve a leer la página actual (ej. tras crear un proyecto).
+     */
+    public void refresh() {
+        page = null;
+    }
+
+    public boolean isHasNext() {
+        getPage();
+        return hasNext;
+    }
+
+    public boolean isHasPrevious() {
+        return !previousCursors.isEmpty();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPageNumber() {
+        return previousCursors.size() + 1;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mycompany.projecttracker.web;
+
+import com.mycompany.projecttracker.metrics.RequestTrace;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Quita del hilo la traza de la petición REST (RequestTrace) cuando el hilo termina con ella.
+ *
+ * ServerTimingFilter abre la traza, pero su filtro de respuesta no siempre corre en el
+ * mismo hilo: en respuestas asíncronas y SSE (GET /projects/events) el hilo de la petición
+ * vuelve al pool antes. Este 'finally' siempre corre en ese hilo, así que la traza
+ * no se queda pegada a él ni se mezcla con el siguiente trabajo.
+ */
+@WebFilter(urlPatterns = "/resources/*", asyncSupported = true)
+public class RequestTraceCleanupFilter extends HttpFilter {
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.projecttracker.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cabeceras de caché para los ficheros estáticos de /images.
+ *
+ * Los ficheros llevan el hash de su contenido en el nombre (payara-fish-logo.fad7c3c5.svg):
+ * si el fichero cambia, cambia la URL. Por eso el navegador puede guardarlos un año
+ * sin volver a preguntar ('immutable').
+ *
+ * El hash se escribe a mano al renombrar el fichero, así que al arrancar se comprueba:
+ * solo los ficheros cuyo nombre lleva los 8 primeros caracteres hex del SHA-256 de su
+ * contenido reciben la cabecera. El resto (sin hash, hash desfasado, o que no existen: 404)
+ * se sirven con la caché por defecto del servidor.
+ */
+@WebFilter(urlPatterns = "/images/*")
+public class StaticResourceCacheFilter extends HttpFilter {
+
+    private static final Logger LOGGER = Logger.getLogger(StaticResourceCacheFilter.class.getName());
+
+    private static final String ONE_YEAR = "public, max-age=31536000, immutable";
+
+    // nombre.<8 hex>.extensión
+    private static final Pattern FINGERPRINTED = Pattern.compile(".+\\.([0-9a-f]{8})\\.[A-Za-z0-9]+");
+
+    // Rutas (ej. "/images/payara-fish-logo.fad7c3c5.svg") con el hash comprobado
+    private final Set<String> immutablePaths = new HashSet<>();
+
+    @Override
+    public void init() throws ServletException {
+        Set<String> paths = getServletContext().getResourcePaths("/images/");
+        if (paths == null) {
+            return;
+        }
+        for (String path : paths) {
+            Matcher matcher = FINGERPRINTED.matcher(path.substring(path.lastIndexOf('/') + 1));
+            if (!matcher.matches()) {
+                continue;
+            }
+            String actual = contentHash(path);
+            if (actual.startsWith(matcher.group(1))) {
+                immutablePaths.add(path);
+            } else {
+                LOGGER.warning("--> " + path + " no coincide con su contenido (SHA-256 " + actual.substring(0, 8)
+                    + "...): se sirve sin caché de un año. Renómbralo con el hash correcto.");
+            }
+        }
+    }
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        String path = request.getServletPath() + (request.getPathInfo() != null ? request.getPathInfo() : "");
+        if (immutablePaths.contains(path)) {
+            response.setHeader("Cache-Control", ONE_YEAR);
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String contentHash(String path) throws ServletException {
+        try (InputStream in = getServletContext().getResourceAsStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new ServletException("No se pudo leer " + path, e);
+        }
+    }
+}
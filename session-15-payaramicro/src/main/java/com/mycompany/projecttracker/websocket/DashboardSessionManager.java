@@ -1,26 +1,36 @@
 package com.mycompany.projecttracker.websocket;
 import com.mycompany.projecttracker.event.ProjectCreatedEvent;
+import com.mycompany.projecttracker.event.ProjectDeletedEvent;
+import com.mycompany.projecttracker.event.ProjectUpdatedEvent;
+import com.mycompany.projecttracker.metrics.Instrumented;
 import com.mycompany.projecttracker.model.ProjectDTO;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.inject.Inject;
 import jakarta.websocket.Session;
-import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 @ApplicationScoped
+@Instrumented(layer = "websocket")
 public class DashboardSessionManager {
 
     private static final Logger LOGGER = Logger.getLogger(DashboardSessionManager.class.getName());
 
+    // Clave en Session.getUserProperties() con el identificador de la vista JSF del cliente
+    public static final String CLIENT_ID = "clientId";
+
     // Colección thread-safe para guardar las sesiones de los navegadores conectados
     private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
 
-    // Instancia de JSON-B para convertir objetos a texto JSON manualmente
-    private final Jsonb jsonb = JsonbBuilder.create();
+    // Instancia compartida de JSON-B (JsonbProducer) para convertir objetos a texto JSON manualmente
+    @Inject
+    private Jsonb jsonb;
 
     public void addSession(Session session) {
         sessions.add(session);
@@ -30,6 +40,10 @@ public class DashboardSessionManager {
         sessions.remove(session);
     }
 
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
     /**
      * Este método escucha el Evento CDI disparado por ProjectService.
      * Se ejecuta automáticamente cuando alguien llama a projectEvent.fire().
@@ -41,12 +55,30 @@ public class DashboardSessionManager {
         // Convertimos el objeto Java a JSON String
         String jsonMessage = jsonb.toJson(newProject);
 
-        // Enviamos el JSON a todos los navegadores conectados
-        sendToAll(jsonMessage);
+        // Enviamos el JSON a todos los navegadores conectados,
+        // salvo al que lo creó desde el formulario (ya añadió la fila por Ajax)
+        sendToAll(jsonMessage, event.originClientId());
+    }
+
+    /**
+     * Proyecto modificado: mismo formato que al crearlo; el navegador actualiza la fila con ese ID.
+     */
+    public void onProjectUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectUpdatedEvent event) {
+        sendToAll(jsonb.toJson(event.project()), null);
+    }
+
+    /**
+     * Proyecto borrado: {"deleted": true, "id": 5}; el navegador quita la fila.
+     */
+    public void onProjectDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProjectDeletedEvent event) {
+        sendToAll(jsonb.toJson(Map.of("id", event.projectId(), "deleted", true)), null);
     }
 
-    private void sendToAll(String message) {
+    private void sendToAll(String message, String excludedClientId) {
         sessions.forEach(session -> {
+            if (excludedClientId != null && Objects.equals(excludedClientId, session.getUserProperties().get(CLIENT_ID))) {
+                return;
+            }
             if (session.isOpen()) {
                 try {
                     // Envío asíncrono para no bloquear el hilo si un cliente es lento
@@ -6,11 +6,13 @@ import jakarta.websocket.OnOpen;
 import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpoint;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
  * Endpoint WebSocket.
- * URL: ws://localhost:8080/project-tracker/ws/dashboard
+ * URL: ws://localhost:8080/project-tracker/ws/dashboard?client=ID
+ * (el parámetro 'client' es opcional: identifica la vista JSF, ver ProjectTableBean)
  */
 @ServerEndpoint("/ws/dashboard")
 public class ProjectDashboardEndpoint {
@@ -23,6 +25,10 @@ public class ProjectDashboardEndpoint {
     @OnOpen
     public void onOpen(Session session) {
         LOGGER.info("--> Nuevo cliente WebSocket conectado: " + session.getId());
+        List<String> clientId = session.getRequestParameterMap().get("client");
+        if (clientId != null && !clientId.isEmpty()) {
+            session.getUserProperties().put(DashboardSessionManager.CLIENT_ID, clientId.get(0));
+        }
         sessionManager.addSession(session);
     }
 
@@ -1,13 +1,20 @@
 -- Inserta Proyectos
--- (No especificamos ID, dejamos que IDENTITY lo genere)
-INSERT INTO PROJECT (NAME, DESCRIPTION, STATUS, DEADLINE, CREATEDBY, CREATEDAT) VALUES ('Sitio Web Corporativo', 'Desarrollo del nuevo sitio web v2', 'Activo', '2025-12-31', 'import_user', '2025-01-01');
+-- (Los IDs ahora vienen de una secuencia de la aplicación, así que aquí los fijamos a mano)
+INSERT INTO PROJECT (ID, VERSION, NAME, DESCRIPTION, STATUS, DEADLINE, CREATEDBY, CREATEDAT) VALUES (1, 1, 'Sitio Web Corporativo', 'Desarrollo del nuevo sitio web v2', 'Activo', '2025-12-31', 'import_user', '2025-01-01');
 
-INSERT INTO PROJECT (NAME, DESCRIPTION, STATUS, DEADLINE, CREATEDBY, CREATEDAT) VALUES ('App Móvil (ProjectTracker)', 'Lanzamiento de la app nativa', 'Planificado', '2026-03-15', 'import_user', '2025-01-10');
+INSERT INTO PROJECT (ID, VERSION, NAME, DESCRIPTION, STATUS, DEADLINE, CREATEDBY, CREATEDAT) VALUES (2, 1, 'App Móvil (ProjectTracker)', 'Lanzamiento de la app nativa', 'Planificado', '2026-03-15', 'import_user', '2025-01-10');
 
--- Inserta Tareas y las vincula a los proyectos
--- Asumimos que los proyectos anteriores tendrán ID 1 y 2
-INSERT INTO TASK (TITLE, STATUS, PROJECT_ID) VALUES ('Diseñar Homepage', 'Completada', 1), ('Desarrollar formulario de contacto', 'En Progreso', 1), ('Definir API de Tareas', 'Completada', 2), ('Testear login de usuario', 'Pendiente', 2);
+-- Inserta Tareas y las vincula a los proyectos 1 y 2
+INSERT INTO TASK (ID, VERSION, TITLE, STATUS, PROJECT_ID) VALUES (1, 1, 'Diseñar Homepage', 'Completada', 1), (2, 1, 'Desarrollar formulario de contacto', 'En Progreso', 1), (3, 1, 'Definir API de Tareas', 'Completada', 2), (4, 1, 'Testear login de usuario', 'Pendiente', 2);
 
 -- Insertar una tarea que ya está completada, con fecha antigua (simulada)
 -- Asumiendo que el Proyecto 1 existe.
-INSERT INTO TASK (TITLE, STATUS, PROJECT_ID, CREATEDBY, CREATEDAT) VALUES ('Tarea Vieja de Prueba', 'Completada', 1, 'admin', '2020-01-01');
\ No newline at end of file
+INSERT INTO TASK (ID, VERSION, TITLE, STATUS, PROJECT_ID, CREATEDBY, CREATEDAT) VALUES (5, 1, 'Tarea Vieja de Prueba', 'Completada', 1, 'admin', '2020-01-01');
+
+-- Las secuencias empiezan por encima de los IDs fijados arriba
+ALTER SEQUENCE PROJECT_SEQ RESTART WITH 1000;
+ALTER SEQUENCE TASK_SEQ RESTART WITH 1000;
+
+-- Inicializa la tabla resumen con las tareas insertadas arriba (franja 0).
+-- A partir de aquí la aplicación la mantiene de forma incremental.
+INSERT INTO PROJECT_TASK_STATS (PROJECT_ID, STATUS, STRIPE, TASK_COUNT, LAST_ACTIVITY) SELECT PROJECT_ID, COALESCE(STATUS, 'Sin estado'), 0, COUNT(*), CURRENT_TIMESTAMP FROM TASK GROUP BY PROJECT_ID, COALESCE(STATUS, 'Sin estado');
@@ -0,0 +1,87 @@
+package com.mycompany.projecttracker.json;
+
+import com.mycompany.projecttracker.model.ProjectDTO;
+import com.mycompany.projecttracker.model.ProjectSummary;
+import com.mycompany.projecttracker.model.TaskDTO;
+import com.mycompany.projecttracker.model.TokenResponse;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Los serializadores de DtoSerializers deben escribir exactamente lo mismo que JSON-B por defecto.
+ *
+ * Los ejemplos se construyen por reflexión a partir de los componentes del record: si se añade
+ * un componente y no se añade al serializador, este test falla.
+ */
+class DtoSerializersTest {
+
+    private static Jsonb reference;
+    private static Jsonb custom;
+
+    @BeforeAll
+    static void createJsonb() {
+        reference = JsonbBuilder.create();
+        custom = JsonbBuilder.create(new JsonbConfig().withSerializers(DtoSerializers.all()));
+    }
+
+    @AfterAll
+    static void closeJsonb() throws Exception {
+        reference.close();
+        custom.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ProjectDTO.class, ProjectSummary.class, TaskDTO.class, TokenResponse.class})
+    void sameOutputAsDefaultJsonb(Class<? extends Record> type) throws ReflectiveOperationException {
+        Object filled = sample(type, false);
+        assertEquals(reference.toJson(filled), custom.toJson(filled));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ProjectDTO.class, ProjectSummary.class, TaskDTO.class, TokenResponse.class})
+    void nullsAreOmittedLikeDefaultJsonb(Class<? extends Record> type) throws ReflectiveOperationException {
+        Object empty = sample(type, true);
+        assertEquals(reference.toJson(empty), custom.toJson(empty));
+    }
+
+    @Test
+    void listsUseTheElementSerializer() {
+        List<ProjectSummary> projects = List.of(
+            new ProjectSummary(1L, "Uno", "Activo"),
+            new ProjectSummary(2L, "Dos \"con comillas\"", null));
+        assertEquals(reference.toJson(projects), custom.toJson(projects));
+    }
+
+    // Instancia del record con un valor distinto por componente (o todos null)
+    private static Object sample(Class<? extends Record> type, boolean nulls) throws ReflectiveOperationException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            if (nulls) {
+                continue;
+            }
+            if (types[i] == String.class) {
+                values[i] = components[i].getName() + " \"ñ\"";
+            } else if (types[i] == Long.class) {
+                values[i] = (long) i + 1;
+            } else {
+                throw new AssertionError("Tipo sin ejemplo en " + type.getSimpleName() + "."
+                    + components[i].getName() + ": " + types[i].getName());
+            }
+        }
+        return type.getDeclaredConstructor(types).newInstance(values);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mycompany.projecttracker.service.search;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * El singular y el plural de una palabra deben dar el mismo término,
+ * si no una búsqueda por "reporte" no encuentra los proyectos que dicen "reportes".
+ */
+class TextAnalyzerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "reporte,   reportes",
+        "clase,     clases",
+        "case,      cases",
+        "proyecto,  proyectos",
+        "tarea,     tareas",
+        "ciudad,    ciudades",
+        "error,     errores",
+        "mes,       meses",
+        "país,      países",
+        "diseño,    diseños",
+        "class,     classes",
+        "test,      tests",
+        "update,    updated",
+        "test,      testing"
+    })
+    void singularAndPluralShareTheStem(String singular, String plural) {
+        assertEquals(TextAnalyzer.analyze(singular), TextAnalyzer.analyze(plural));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "Reportes,  report",
+        "Diseñar,   disenar",
+        "análisis,  analisis",
+        "autobús,   autobus"
+    })
+    void normalizesAndStems(String word, String term) {
+        assertEquals(List.of(term), TextAnalyzer.analyze(word));
+    }
+}